@@ -44,6 +44,8 @@ dependencies {
     api(libs.jspecify)
     api(gradleApi())
 
+    compileOnly(libs.junitApi)
+
     testImplementation(libs.junitApi)
 
     testRuntimeOnly(libs.junitEngine)
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.provider.SetProperty;
+
+
+/**
+ * Base class for assertions on Gradle collection properties (e.g. {@link ListProperty}, {@link SetProperty}). Each
+ * assertion obtains the value of the property once and examines the resulting collection in place, stopping as
+ * soon as the outcome is known. The collection is not copied.
+ *
+ * @param <SELF> Type of concrete assertion
+ * @param <ELEMENT> Type of the elements in the collection
+ * @param <COLLECTION> Type of the collection contained in the property
+ * @param <PROPERTY> Type of the property
+ */
+@SuppressWarnings("UnusedReturnValue")
+public abstract class AbstractGradleCollectionPropertyAssert<SELF extends AbstractGradleCollectionPropertyAssert<SELF,
+        ELEMENT, COLLECTION, PROPERTY>, ELEMENT, COLLECTION extends Collection<ELEMENT>,
+        PROPERTY extends Provider<COLLECTION>> extends AbstractGradleProviderAssert<SELF, COLLECTION, PROPERTY> {
+
+    /**
+     * Constructs the assertion for the specified Gradle collection property.
+     *
+     * @param property  Gradle collection property to test
+     */
+    protected AbstractGradleCollectionPropertyAssert(final PROPERTY property) {
+        super(property);
+    }
+
+    /**
+     * Verifies that the property contains the specified element.
+     *
+     * @param element  Element expected in the property
+     * @return This assertion
+     */
+    public SELF containsElement(final ELEMENT element) {
+        if (!getPresentValue().contains(element)) {
+            failWithMessage("Expecting property to contain element '%s', but it does not", element);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the property does not contain the specified element.
+     *
+     * @param element  Element not expected in the property
+     * @return This assertion
+     */
+    public SELF doesNotContainElement(final ELEMENT element) {
+        if (getPresentValue().contains(element)) {
+            failWithMessage("Expecting property not to contain element '%s', but it does", element);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the property contains the specified number of elements.
+     *
+     * @param size  Expected number of elements
+     * @return This assertion
+     */
+    public SELF hasSize(final int size) {
+        final int actualSize = getPresentValue().size();
+        if (actualSize != size) {
+            failWithMessage("Expecting property to have size %d, but it has size %d", size, actualSize);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that all elements of the property match the specified predicate. Elements are tested in iteration
+     * order and the assertion fails at the first element that does not match.
+     *
+     * @param predicate  Predicate all elements must match
+     * @return This assertion
+     */
+    public SELF allMatch(final Predicate<? super ELEMENT> predicate) {
+        int index = 0;
+        for (final ELEMENT element : getPresentValue()) {
+            if (!predicate.test(element)) {
+                failWithMessage("Expecting all elements of property to match the predicate, but element %d '%s' "
+                                        + "does not", index, element);
+            }
+            index++;
+        }
+        return this.myself;
+    }
+}
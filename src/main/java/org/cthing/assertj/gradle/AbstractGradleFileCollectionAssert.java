@@ -6,18 +6,37 @@
 package org.cthing.assertj.gradle;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.AbstractCollectionAssert;
 import org.assertj.core.api.AbstractFileAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ObjectAssert;
+import org.gradle.api.file.EmptyFileVisitor;
 import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.file.FileVisitDetails;
+import org.jspecify.annotations.Nullable;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 
 /**
- * Base class for all Gradle {@link FileCollection} based assertions.
+ * Base class for all Gradle {@link FileCollection} based assertions. The collection is resolved at most once for
+ * all assertions made using an assertion object, and cardinality assertions on a {@link FileTree} visit only as many
+ * files as are needed to decide the outcome.
  *
  * @param <SELF> Concrete assertion class
  * @param <T> Gradle file collection based type
@@ -26,19 +45,25 @@ import org.gradle.api.file.FileCollection;
 public abstract class AbstractGradleFileCollectionAssert<SELF extends AbstractGradleFileCollectionAssert<SELF, T>,
         T extends FileCollection> extends AbstractAssert<SELF, T> {
 
+    @Nullable
+    private Set<File> resolvedFiles;
+
+    @Nullable
+    private String[] pathIndex;
+
     protected AbstractGradleFileCollectionAssert(final T fileCollection) {
         super(fileCollection, AbstractGradleFileCollectionAssert.class);
     }
 
     /**
-     * Verifies that the file collection is empty.
+     * Verifies that the file collection is empty. A {@link FileTree} is only visited until its first file is found.
      *
      * @return This assertion
      */
     public SELF isEmpty() {
         isNotNull();
 
-        if (!this.actual.isEmpty()) {
+        if (countFiles(1) != 0) {
             failWithMessage("Expected file collection to be empty");
         }
 
@@ -46,14 +71,15 @@ public abstract class AbstractGradleFileCollectionAssert<SELF extends AbstractGr
     }
 
     /**
-     * Verifies that the file collection is not empty.
+     * Verifies that the file collection is not empty. A {@link FileTree} is only visited until its first file is
+     * found.
      *
      * @return This assertion
      */
     public SELF isNotEmpty() {
         isNotNull();
 
-        if (this.actual.isEmpty()) {
+        if (countFiles(1) == 0) {
             failWithMessage("Expected file collection to not be empty");
         }
 
@@ -69,7 +95,9 @@ public abstract class AbstractGradleFileCollectionAssert<SELF extends AbstractGr
     public SELF contains(final File file) {
         isNotNull();
 
-        if (!this.actual.contains(file)) {
+        final boolean found = (this.resolvedFiles == null) ? this.actual.contains(file)
+                                                           : this.resolvedFiles.contains(file);
+        if (!found) {
             failWithMessage("Expected file collection to contain file '%s', but does not", file);
         }
 
@@ -77,19 +105,194 @@ public abstract class AbstractGradleFileCollectionAssert<SELF extends AbstractGr
     }
 
     /**
-     * Verifies that the file collection contains a single file.
+     * Verifies that the file collection contains a single file. A {@link FileTree} is only visited until a second
+     * file is found.
      *
      * @return This assertion
      */
     public SELF hasSingleFile() {
         isNotNull();
 
-        final int numFiles = this.actual.getFiles().size();
+        final int numFiles = countFiles(2);
         if (numFiles == 0) {
             failWithMessage("Expected file collection to have a single file but is empty");
         }
         if (numFiles > 1) {
-            failWithMessage("Expected file collection to have a single file, but has %d", numFiles);
+            failWithMessage("Expected file collection to have a single file, but has %s", describeCount(numFiles));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the file collection contains at least the specified number of files. A {@link FileTree} is only
+     * visited until the specified number of files is found.
+     *
+     * @param count Minimum number of files expected in the collection
+     * @return This assertion
+     */
+    public SELF hasAtLeast(final int count) {
+        isNotNull();
+
+        if (count > 0) {
+            final int numFiles = countFiles(count);
+            if (numFiles < count) {
+                failWithMessage("Expected file collection to have at least %s, but has %d",
+                                FileReports.fileCount(count), numFiles);
+            }
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the file collection contains at most the specified number of files. A {@link FileTree} is only
+     * visited until one more than the specified number of files is found.
+     *
+     * @param count Maximum number of files expected in the collection
+     * @return This assertion
+     */
+    public SELF hasAtMost(final int count) {
+        isNotNull();
+        checkArgument(count >= 0, "The maximum number of files must not be negative.");
+
+        // A collection cannot hold more than Integer.MAX_VALUE files, so the limit is clamped to avoid overflow.
+        final int numFiles = countFiles(count < Integer.MAX_VALUE ? count + 1 : count);
+        if (numFiles > count) {
+            failWithMessage("Expected file collection to have at most %s, but has %s", FileReports.fileCount(count),
+                            describeCount(numFiles));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the file collection contains all the specified files. The collection is resolved once into a
+     * sorted index of paths that is compared with the expected files in a single pass, and all missing files are
+     * reported.
+     *
+     * @param files Files expected in the collection
+     * @return This assertion
+     */
+    public SELF containsAll(final Collection<? extends File> files) {
+        isNotNull();
+
+        final List<String> missing = new ArrayList<>();
+        compare(files, missing, null, null);
+        if (!missing.isEmpty()) {
+            failWithMessage("Expected file collection to contain all of the specified files, but %d of them are "
+                                    + "missing:%s", missing.size(), FileReports.list(missing));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the file collection contains exactly the specified files, in any order. The collection is
+     * resolved once into a sorted index of paths that is compared with the expected files in a single pass, and all
+     * missing and unexpected files are reported.
+     *
+     * @param files Files expected in the collection
+     * @return This assertion
+     */
+    public SELF containsExactlyInAnyOrder(final Collection<? extends File> files) {
+        isNotNull();
+
+        final List<String> missing = new ArrayList<>();
+        final List<String> unexpected = new ArrayList<>();
+        compare(files, missing, null, unexpected);
+        if (!missing.isEmpty() || !unexpected.isEmpty()) {
+            final StringBuilder buffer = new StringBuilder();
+            if (!missing.isEmpty()) {
+                buffer.append("\nMissing files (").append(missing.size()).append("):")
+                      .append(FileReports.list(missing));
+            }
+            if (!unexpected.isEmpty()) {
+                buffer.append("\nUnexpected files (").append(unexpected.size()).append("):")
+                      .append(FileReports.list(unexpected));
+            }
+            failWithMessage("Expected file collection to contain exactly the specified files, but it does not:%s",
+                            buffer.toString());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the file collection contains none of the specified files. The collection is resolved once into
+     * a sorted index of paths that is compared with the specified files in a single pass, and all files found in
+     * the collection are reported.
+     *
+     * @param files Files not expected in the collection
+     * @return This assertion
+     */
+    public SELF containsNone(final Collection<? extends File> files) {
+        isNotNull();
+
+        final List<String> found = new ArrayList<>();
+        compare(files, null, found, null);
+        if (!found.isEmpty()) {
+            failWithMessage("Expected file collection to contain none of the specified files, but it contains %d of "
+                                    + "them:%s", found.size(), FileReports.list(found));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the contents of the files in the collection match the SHA-256 fingerprints in the specified
+     * manifest. Each file is identified by its path relative to the root of the file tree containing it, as given
+     * by {@link FileCollection#getAsFileTree()}, so a file added directly to the collection is identified by its
+     * name. The manifest lists the hash and relative path of every file that is expected in the collection, in the
+     * format used by the {@code sha256sum} command. The files are hashed using multiple threads, and large files are
+     * read a chunk at a time rather than onto the heap in full. All missing, unexpected and changed files are
+     * reported.
+     * <p>
+     * When the system property {@code org.cthing.assertj.gradle.updateFingerprints} is set to {@code true}, the
+     * manifest is written from the current contents of the collection instead of being compared against.
+     * </p>
+     *
+     * @param manifest Fingerprint manifest
+     * @return This assertion
+     */
+    public SELF matchesFingerprint(final Path manifest) {
+        isNotNull();
+
+        final boolean updating = FileFingerprints.isUpdating();
+        if (!updating && !Files.isRegularFile(manifest)) {
+            failWithMessage("Fingerprint manifest '%s' does not exist. Set the system property '%s' to true to "
+                                    + "create it.", manifest, FileFingerprints.UPDATE_PROPERTY);
+        }
+
+        final Map<String, Path> files = new HashMap<>();
+        final Set<String> duplicates = new TreeSet<>();
+        this.actual.getAsFileTree().visit(new EmptyFileVisitor() {
+            @Override
+            public void visitFile(final FileVisitDetails fileDetails) {
+                final String path = fileDetails.getRelativePath().getPathString();
+                final Path file = fileDetails.getFile().toPath();
+                final Path previous = files.put(path, file);
+                if (previous != null && !previous.equals(file)) {
+                    duplicates.add(path);
+                }
+            }
+        });
+        if (!duplicates.isEmpty()) {
+            failWithMessage("Expected the files in the file collection to have unique relative paths, but %d paths "
+                                    + "are shared by multiple files:%s", duplicates.size(),
+                            FileReports.list(new ArrayList<>(duplicates)));
+        }
+        final SortedMap<String, String> fingerprints = FileFingerprints.compute(files);
+
+        if (updating) {
+            FileFingerprints.write(manifest, fingerprints);
+        } else {
+            final FileFingerprints.Differences differences =
+                    FileFingerprints.compare(fingerprints, FileFingerprints.read(manifest));
+            if (!differences.isEmpty()) {
+                failWithMessage("Expected file collection to match fingerprint manifest '%s', but it does not:%s",
+                                manifest, differences.report());
+            }
         }
 
         return this.myself;
@@ -102,7 +305,7 @@ public abstract class AbstractGradleFileCollectionAssert<SELF extends AbstractGr
      */
     public AbstractCollectionAssert<?, Collection<? extends File>, File, ObjectAssert<File>> asFiles() {
         isNotNull();
-        return Assertions.assertThat(this.actual.getFiles());
+        return Assertions.assertThat(resolveFiles());
     }
 
     /**
@@ -115,6 +318,135 @@ public abstract class AbstractGradleFileCollectionAssert<SELF extends AbstractGr
         isNotNull();
         hasSingleFile();
 
-        return Assertions.assertThat(this.actual.getSingleFile());
+        return Assertions.assertThat(resolveFiles().iterator().next());
+    }
+
+    /**
+     * Obtains the files in the collection. The collection is resolved the first time this method is called and the
+     * files are reused by subsequent assertions made using this assertion object.
+     *
+     * @return Files in the collection.
+     */
+    protected Set<File> resolveFiles() {
+        if (this.resolvedFiles == null) {
+            this.resolvedFiles = this.actual.getFiles();
+        }
+        return this.resolvedFiles;
+    }
+
+    /**
+     * Compares the paths of the files in the collection with the paths of the specified files by walking the sorted
+     * path index of the collection and the sorted specified paths together.
+     *
+     * @param files Files to compare with the collection
+     * @param missing Receives the paths of the specified files that are not in the collection, or {@code null} if
+     *      they are not needed
+     * @param found Receives the paths of the specified files that are in the collection, or {@code null} if they
+     *      are not needed
+     * @param unexpected Receives the paths of the files in the collection that were not specified, or {@code null}
+     *      if they are not needed
+     */
+    private void compare(final Collection<? extends File> files, @Nullable final List<String> missing,
+                         @Nullable final List<String> found, @Nullable final List<String> unexpected) {
+        final String[] actualPaths = getPathIndex();
+        final String[] expectedPaths = files.stream().map(AbstractGradleFileCollectionAssert::toPath)
+                                            .sorted().distinct().toArray(String[]::new);
+
+        int actualIdx = 0;
+        int expectedIdx = 0;
+        while (actualIdx < actualPaths.length || expectedIdx < expectedPaths.length) {
+            final int order;
+            if (actualIdx == actualPaths.length) {
+                order = 1;
+            } else if (expectedIdx == expectedPaths.length) {
+                order = -1;
+            } else {
+                order = actualPaths[actualIdx].compareTo(expectedPaths[expectedIdx]);
+            }
+
+            if (order == 0) {
+                if (found != null) {
+                    found.add(expectedPaths[expectedIdx]);
+                }
+                actualIdx++;
+                expectedIdx++;
+            } else if (order < 0) {
+                if (unexpected != null) {
+                    unexpected.add(actualPaths[actualIdx]);
+                }
+                actualIdx++;
+            } else {
+                if (missing != null) {
+                    missing.add(expectedPaths[expectedIdx]);
+                }
+                expectedIdx++;
+            }
+        }
+    }
+
+    /**
+     * Obtains the sorted paths of the files in the collection. The index is created the first time it is needed and
+     * reused by subsequent assertions made using this assertion object.
+     *
+     * @return Sorted absolute paths of the files in the collection.
+     */
+    private String[] getPathIndex() {
+        if (this.pathIndex == null) {
+            this.pathIndex = resolveFiles().stream().map(AbstractGradleFileCollectionAssert::toPath)
+                                           .sorted().distinct().toArray(String[]::new);
+        }
+        return this.pathIndex;
+    }
+
+    private static String toPath(final File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Counts the files in the collection, stopping once the specified number of files has been found. If the
+     * collection has already been resolved, the resolved files are counted. Otherwise, a {@link FileTree} is visited
+     * until the limit is reached, and any other collection is resolved. If all files were found, they are retained
+     * for use by subsequent assertions.
+     *
+     * @param limit Number of files after which counting can stop (must be greater than zero)
+     * @return Number of files in the collection, or the limit if the collection has at least that many files.
+     */
+    private int countFiles(final int limit) {
+        if (this.resolvedFiles == null && this.actual instanceof FileTree fileTree) {
+            final Set<File> files = new LinkedHashSet<>();
+            final AtomicBoolean stopped = new AtomicBoolean();
+            fileTree.visit(new EmptyFileVisitor() {
+                @Override
+                public void visitFile(final FileVisitDetails fileDetails) {
+                    // Composite trees may continue to visit their other trees after visiting is stopped.
+                    if (stopped.get()) {
+                        fileDetails.stopVisiting();
+                        return;
+                    }
+                    files.add(fileDetails.getFile());
+                    if (files.size() >= limit) {
+                        stopped.set(true);
+                        fileDetails.stopVisiting();
+                    }
+                }
+            });
+            if (stopped.get()) {
+                return files.size();
+            }
+            this.resolvedFiles = files;
+        }
+
+        return resolveFiles().size();
+    }
+
+    /**
+     * Describes a number of files obtained using {@link #countFiles(int)}.
+     *
+     * @param numFiles Number of files counted
+     * @return The number of files if the collection was completely resolved, otherwise the number preceded by
+     *      "at least".
+     */
+    private String describeCount(final int numFiles) {
+        return (this.resolvedFiles == null) ? "at least " + numFiles : String.valueOf(numFiles);
     }
 }
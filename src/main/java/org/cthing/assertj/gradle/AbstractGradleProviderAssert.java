@@ -5,6 +5,12 @@
 
 package org.cthing.assertj.gradle;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.AbstractAssert;
@@ -13,15 +19,24 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.InstanceOfAssertFactory;
 import org.assertj.core.internal.Conditions;
+import org.gradle.api.Task;
+import org.gradle.api.Transformer;
+import org.gradle.api.internal.provider.AbstractProperty;
+import org.gradle.api.internal.provider.PropertyInternal;
+import org.gradle.api.internal.provider.ProviderInternal;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.TaskProvider;
 import org.jspecify.annotations.Nullable;
 
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 
 /**
- * Base class for Gradle {@link Provider} base assertions.
+ * Base class for Gradle {@link Provider} base assertions. Each assertion obtains the value of the provider once. To
+ * obtain the value only once for an entire chain of assertions, call {@link #evaluatedOnce()} at the start of the
+ * chain. This is useful for providers that are expensive to evaluate or whose value can change between
+ * evaluations.
  *
  * @param <SELF> Type of concrete assertion
  * @param <VALUE> Type of the value contained in the {@link Provider}
@@ -31,6 +46,17 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradleProviderAssert<SELF, VALUE,
         PROVIDER>, VALUE, PROVIDER extends Provider<VALUE>> extends AbstractAssert<SELF, PROVIDER> {
 
+    private boolean evaluated;
+
+    @Nullable
+    private VALUE evaluatedValue;
+
+    @Nullable
+    private Duration evaluationTime;
+
+    @Nullable
+    private ProviderChainProfile chainProfile;
+
     /**
      * Constructs the assertion for the specified Gradle provider.
      *
@@ -40,6 +66,140 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
         super(provider, AbstractGradleProviderAssert.class);
     }
 
+    /**
+     * Constructs the assertion for the specified Gradle provider and the profile of the chain that created it.
+     *
+     * @param provider Gradle provider to test
+     * @param chainProfile Profile of the map and flatMap calls that created the provider
+     */
+    AbstractGradleProviderAssert(final PROVIDER provider, final ProviderChainProfile chainProfile) {
+        this(provider);
+        this.chainProfile = chainProfile;
+    }
+
+    /**
+     * Evaluates the {@link Provider} and uses the resulting value, or its absence, for all subsequent assertions
+     * made using this assertion object, including {@link #get()} and {@link #get(InstanceOfAssertFactory)}. The
+     * provider is not evaluated again. The time taken by the evaluation is recorded for use by
+     * {@link #evaluatesWithin(Duration)}. For example:
+     * <pre>
+     * assertThat(expensiveProvider).evaluatedOnce()
+     *                              .isPresent()
+     *                              .containsInstanceOf(String.class)
+     *                              .hasValueSatisfying(value -&gt; assertThat(value).startsWith("foo"));
+     * </pre>
+     *
+     * @return This assertion
+     */
+    public SELF evaluatedOnce() {
+        isNotNull();
+
+        if (!this.evaluated) {
+            final long start = System.nanoTime();
+            this.evaluatedValue = CountingProviders.uncounted(this.actual::getOrNull);
+            this.evaluationTime = Duration.ofNanos(System.nanoTime() - start);
+            this.evaluated = true;
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Evaluates the {@link Provider} on a separate thread and waits at most the specified time for the evaluation
+     * to complete. If the evaluation does not complete in time, the assertion fails with the stack of the
+     * evaluating thread, which is then interrupted. Otherwise, the value, or its absence, is used for all subsequent
+     * assertions made using this assertion object, as with {@link #evaluatedOnce()}, and the time taken is
+     * recorded for use by {@link #evaluatesWithin(Duration)}. For example:
+     * <pre>
+     * assertThat(execProvider).within(Duration.ofSeconds(10)).contains("expected output");
+     * </pre>
+     * The evaluating thread is a daemon thread, so an evaluation that ignores interruption does not prevent the JVM
+     * from exiting. If the evaluation throws an exception, the assertion fails with the exception as the cause.
+     * Because the provider is evaluated only once, this method must be called before {@link #evaluatedOnce()} and
+     * must not be called more than once.
+     *
+     * @param timeout Maximum time to wait for the evaluation to complete
+     * @return This assertion
+     */
+    public SELF within(final Duration timeout) {
+        isNotNull();
+
+        if (this.evaluated) {
+            failWithMessage("Expected provider not to have been evaluated before a timed evaluation, but it has been "
+                                    + "evaluated by evaluatedOnce() or within()");
+        }
+
+        final AtomicReference<@Nullable VALUE> result = new AtomicReference<>();
+        final AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+        final AtomicLong elapsed = new AtomicLong();
+        final Thread thread = new Thread(() -> {
+            final long start = System.nanoTime();
+            try {
+                result.set(CountingProviders.uncounted(this.actual::getOrNull));
+            } catch (final RuntimeException | Error ex) {
+                failure.set(ex);
+            } finally {
+                elapsed.set(System.nanoTime() - start);
+            }
+        }, "assertj-gradle-provider-evaluation");
+        thread.setDaemon(true);
+        thread.start();
+
+        try {
+            TimeUnit.NANOSECONDS.timedJoin(thread, timeout.toNanos());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (thread.isAlive()) {
+            final StringBuilder stack = new StringBuilder();
+            for (final StackTraceElement frame : thread.getStackTrace()) {
+                stack.append("\n\tat ").append(frame);
+            }
+            thread.interrupt();
+            failWithMessage("Expected provider evaluation to complete within %d ms, but it did not. Evaluation "
+                                    + "stack:%s", timeout.toMillis(), stack.toString());
+        }
+
+        final Throwable ex = failure.get();
+        if (ex instanceof Error error && !(ex instanceof AssertionError)) {
+            throw error;
+        }
+        if (ex != null) {
+            throw new AssertionError(String.format("Expected provider evaluation to complete within %d ms, but the "
+                                                           + "timed evaluation failed: %s", timeout.toMillis(), ex),
+                                     ex);
+        }
+
+        this.evaluatedValue = result.get();
+        this.evaluated = true;
+        this.evaluationTime = Duration.ofNanos(elapsed.get());
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the {@link Provider} was evaluated within the specified time. If the provider has already been
+     * evaluated using {@link #evaluatedOnce()} or {@link #within(Duration)}, the time taken by that evaluation is
+     * checked and the provider is not evaluated again. Otherwise, the provider is evaluated using
+     * {@link #within(Duration)} with the specified time as the timeout.
+     *
+     * @param duration Maximum time to evaluate the provider
+     * @return This assertion
+     */
+    public SELF evaluatesWithin(final Duration duration) {
+        if (!this.evaluated) {
+            within(duration);
+        }
+
+        final Duration time = this.evaluationTime;
+        if (time != null && time.compareTo(duration) > 0) {
+            failWithMessage("Expected provider to evaluate within %d ms, but it took %d ms", duration.toMillis(),
+                            time.toMillis());
+        }
+
+        return this.myself;
+    }
+
     /**
      * Verifies that the {@link Provider} contains the given value (alias of {@link #hasValue(Object)}).
      *
@@ -50,13 +210,12 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
         isNotNull();
         checkNotNull(expectedValue);
 
-        if (!this.actual.isPresent()) {
+        final VALUE value = getValue();
+        if (value == null) {
             failWithMessage("Expecting provider to contain '%s' but was empty", expectedValue.toString());
-        }
-
-        if (!expectedValue.equals(this.actual.get())) {
+        } else if (!expectedValue.equals(value)) {
             failWithMessage("Expecting provider to contain '%s' but was '%s'", expectedValue.toString(),
-                            this.actual.get().toString());
+                            value.toString());
         }
 
         return this.myself;
@@ -70,12 +229,11 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      * @return This assertion
      */
     public SELF containsInstanceOf(final Class<?> clazz) {
-        assertValueIsPresent();
+        final VALUE value = getPresentValue();
 
-        if (!clazz.isInstance(this.actual.get())) {
+        if (!clazz.isInstance(value)) {
             failWithMessage("Expecting '%s' to contain an instance of '%s' but contained an instance of '%s'",
-                            this.actual.getClass().getSimpleName(), clazz.getName(),
-                            this.actual.get().getClass().getName());
+                            this.actual.getClass().getSimpleName(), clazz.getName(), value.getClass().getName());
         }
 
         return this.myself;
@@ -91,11 +249,10 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
         isNotNull();
         checkNotNull(expectedValue);
 
-        if (!this.actual.isPresent()) {
+        final VALUE value = getValue();
+        if (value == null) {
             failWithMessage("Expecting provider to contain '%s' but was empty", expectedValue.toString());
-        }
-
-        if (this.actual.get() != expectedValue) {
+        } else if (value != expectedValue) {
             failWithMessage("Expecting provider to contain value identical to '%s'", expectedValue.toString());
         }
 
@@ -121,8 +278,7 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      * @return This assertion
      */
     public SELF hasValueSatisfying(final Consumer<VALUE> requirement) {
-        assertValueIsPresent();
-        requirement.accept(this.actual.get());
+        requirement.accept(getPresentValue());
         return this.myself;
     }
 
@@ -136,8 +292,7 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      * @throws NullPointerException if the given condition is {@code null}.
      */
     public SELF hasValueSatisfying(final Condition<? super VALUE> condition) {
-        assertValueIsPresent();
-        Conditions.instance().assertIs(this.info, this.actual.get(), condition);
+        Conditions.instance().assertIs(this.info, getPresentValue(), condition);
         return this.myself;
     }
 
@@ -147,7 +302,7 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      * @return This assertion
      */
     public SELF isPresent() {
-        assertValueIsPresent();
+        getPresentValue();
         return this.myself;
     }
 
@@ -158,12 +313,278 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      */
     public SELF isEmpty() {
         isNotNull();
-        if (this.actual.isPresent()) {
+        if (getValue() != null) {
             failWithMessage("Expecting provider to be empty but contains '%s'", this.actual.toString());
         }
         return this.myself;
     }
 
+    /**
+     * Verifies that the {@link Provider} carries the output of the task with the specified path (e.g.
+     * {@code :generate}). Gradle uses the tasks that produce a provider's value to infer task dependencies when the
+     * provider is connected to a task input, so no explicit {@code dependsOn} is needed. The value of the provider is
+     * not calculated and no task is executed, although the producing tasks may be realized.
+     *
+     * @param taskPath Path of the task expected to produce the value of the provider
+     * @return This assertion
+     */
+    public SELF isProducedBy(final String taskPath) {
+        final Map<String, Task> producers = producerTasks();
+        if (!producers.containsKey(taskPath)) {
+            failWithMessage("Expected provider to be produced by task '%s', but its producer tasks were %s",
+                            taskPath, producers.keySet());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the {@link Provider} carries a dependency on the task represented by the specified task
+     * provider. The value of the provider is not calculated and no task is executed, although the producing tasks
+     * may be realized.
+     *
+     * @param taskProvider Provider of the task expected to produce the value of the provider
+     * @return This assertion
+     */
+    public SELF carriesDependencyOn(final TaskProvider<? extends Task> taskProvider) {
+        final Map<String, Task> producers = producerTasks();
+
+        // Only a producer with a matching name can be the task, and it has already been realized by then.
+        final boolean found = producers.values()
+                                       .stream()
+                                       .anyMatch(task -> task.getName().equals(taskProvider.getName())
+                                               && task == taskProvider.get());
+        if (!found) {
+            failWithMessage("Expected provider to carry a dependency on task '%s', but its producer tasks were %s",
+                            taskProvider.getName(), producers.keySet());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the value of the {@link Property} has been finalized, so it is no longer recalculated when read.
+     *
+     * @return This assertion
+     */
+    public SELF isFinalized() {
+        if (!requireProperty().isFinalized()) {
+            failWithMessage("Expected property to be finalized, but it was not");
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the value of the {@link Property} can no longer be changed. A finalized property also disallows
+     * changes.
+     *
+     * @return This assertion
+     */
+    public SELF disallowsChanges() {
+        final PropertyInternal<?> property = requireProperty();
+        final boolean disallowed = property.isFinalized()
+                || (property instanceof AbstractProperty<?, ?> abstractProperty
+                        && abstractProperty.isDisallowChanges());
+        if (!disallowed) {
+            failWithMessage("Expected property to disallow changes, but it does not");
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that reading the {@link Property} finalizes its value (e.g. because
+     * {@link Property#finalizeValueOnRead()} has been called). The property is read, so its value is finalized if
+     * the assertion succeeds.
+     *
+     * @return This assertion
+     */
+    public SELF finalizesOnRead() {
+        final PropertyInternal<?> property = requireProperty();
+        CountingProviders.uncounted(property::getOrNull);
+        if (!property.isFinalized()) {
+            failWithMessage("Expected property to be finalized when read, but it was not");
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the value of the {@link Property} is not computed more than the specified number of times when
+     * it is read repeatedly. The property is read one more time than the specified maximum, and the evaluations of
+     * the providers from which the property obtains its value are counted. A property that is finalized on read is
+     * computed once.
+     * <p>
+     * Only providers created using {@link CountingProviders} are counted, so the property must obtain its value,
+     * directly or through a chain of providers, from at least one such provider. For example:
+     * <pre>
+     * extension.getVersion().set(CountingProviders.provider(project.getProviders(), () -&gt; "1.0"));
+     * assertThat(extension.getVersion()).recomputesAtMost(1);
+     * </pre>
+     * Computations by any other provider, such as one created by {@link org.gradle.api.provider.ProviderFactory},
+     * cannot be detected. If no computations are counted and the property is not already finalized, the assertion
+     * fails rather than succeeding vacuously.
+     *
+     * @param maxComputations Maximum number of times the value of the property may be computed
+     * @return This assertion
+     */
+    public SELF recomputesAtMost(final int maxComputations) {
+        checkArgument(maxComputations >= 0, "The maximum number of computations must not be negative.");
+
+        final PropertyInternal<?> property = requireProperty();
+        final boolean finalized = property.isFinalized();
+        final int reads = maxComputations + 1;
+        final int computations = CountingProviders.tally(() -> {
+            for (int i = 0; i < reads; i++) {
+                CountingProviders.uncounted(property::getOrNull);
+            }
+        });
+
+        if (computations == 0 && !finalized) {
+            failWithMessage("Expected property to obtain its value from a provider created by CountingProviders, "
+                                    + "but no computations were counted");
+        }
+        if (computations > maxComputations) {
+            failWithMessage("Expected property to be computed at most %d times when read %d times, but it was "
+                                    + "computed %d times", maxComputations, reads, computations);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Starts profiling the chain of {@link #map(Transformer) map} and {@link #flatMap(Transformer) flatMap} calls
+     * subsequently made using this assertion. The transformer of each call is wrapped to record the number of times
+     * it is invoked and the time spent in it. The {@link #chainDepthAtMost(int)} and
+     * {@link #totalEvaluationWithin(Duration)} assertions can then be made on the resulting provider. For example:
+     * <pre>
+     * assertThat(extension.getVersion()).profiled()
+     *                                   .map(String::trim)
+     *                                   .map(Version::parse)
+     *                                   .chainDepthAtMost(2)
+     *                                   .totalEvaluationWithin(Duration.ofMillis(10));
+     * </pre>
+     *
+     * @return This assertion
+     */
+    public SELF profiled() {
+        isNotNull();
+        this.chainProfile = new ProviderChainProfile();
+        return this.myself;
+    }
+
+    /**
+     * Calls {@link Provider#map(Transformer) map} on the {@code Provider} under test. Assertions can then be made
+     * on the {@code Provider} resulting from the map call.
+     *
+     * @param <V> Type contained in the {@link Provider} following the {@link Provider#map(Transformer) map} call.
+     * @param transformer {@link Transformer} to use in the {@link Provider#map(Transformer) map} call
+     * @return New GradleProviderAssert for assertions on the map of the Provider
+     * @throws AssertionError if the {@link Provider} is null.
+     */
+    public <V> GradleProviderAssert<V> map(final Transformer<? extends @Nullable V, ? super VALUE> transformer) {
+        isNotNull();
+
+        if (this.chainProfile == null) {
+            return GradleProviderAssert.assertThat(this.actual.map(transformer));
+        }
+        final ProviderChainProfile profile = this.chainProfile.withStage("map");
+        return new GradleProviderAssert<>(this.actual.map(profile.getLastStage().timed(transformer)), profile);
+    }
+
+    /**
+     * Calls {@link Provider#flatMap(Transformer) flatMap} on the {@code Provider} under test. Assertions can then
+     * be made on the {@code Provider} resulting from the flatMap call.
+     *
+     * @param <V> Type contained in the {@link Provider} following the
+     *      {@link Provider#flatMap(Transformer) flatMap} call
+     * @param transformer {@link Transformer} to use in the {@link Provider#flatMap(Transformer) flatMap} call
+     * @return New GradleProviderAssert for assertions on the flatMap of the Provider.
+     * @throws AssertionError if the {@link Provider} is null.
+     */
+    public <V> GradleProviderAssert<V> flatMap(final Transformer<? extends @Nullable Provider<? extends V>,
+            ? super VALUE> transformer) {
+        isNotNull();
+
+        if (this.chainProfile == null) {
+            return GradleProviderAssert.assertThat(this.actual.flatMap(transformer));
+        }
+        final ProviderChainProfile profile = this.chainProfile.withStage("flatMap");
+        return new GradleProviderAssert<>(this.actual.flatMap(profile.getLastStage().timed(transformer)), profile);
+    }
+
+    /**
+     * Verifies that the provider is not evaluated while running the specified action (e.g. applying a plugin or
+     * configuring an extension). The provider must have been created using {@link CountingProviders}.
+     *
+     * @param action Action during which the provider must not be evaluated
+     * @return This assertion
+     */
+    public SELF isNotEvaluatedDuring(final Runnable action) {
+        final CountingProviders.Counter counter = requireCounter();
+        final int before = counter.getCount();
+        final Map<StackTraceElement, Integer> beforeSites = counter.getSiteCounts();
+        action.run();
+        final int evaluations = counter.getCount() - before;
+        if (evaluations > 0) {
+            failWithMessage("Expected provider not to be evaluated, but it was evaluated %d times:%s", evaluations,
+                            counter.report(beforeSites));
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the provider has been evaluated at most once since it was created. Evaluations made by
+     * provider assertions are not counted. The provider must have been created using {@link CountingProviders}.
+     *
+     * @return This assertion
+     */
+    public SELF evaluatesAtMostOnce() {
+        final CountingProviders.Counter counter = requireCounter();
+        if (counter.getCount() > 1) {
+            failWithMessage("Expected provider to be evaluated at most once, but it was evaluated %d times:%s",
+                            counter.getCount(), counter.report());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the profiled chain of {@link #map(Transformer) map} and {@link #flatMap(Transformer) flatMap}
+     * calls that created the provider has at most the specified number of stages. Call {@link #profiled()} to start
+     * profiling the chain. Only the stages added after {@link #profiled()} was called are counted. Any map and
+     * flatMap calls made on the provider before it was passed to the assertion are not counted.
+     *
+     * @param maxDepth Maximum number of map and flatMap calls in the chain
+     * @return This assertion
+     */
+    public SELF chainDepthAtMost(final int maxDepth) {
+        final ProviderChainProfile profile = requireChainProfile();
+        if (profile.getDepth() > maxDepth) {
+            failWithMessage("Expected provider chain depth to be at most %d, but it was %d:%s", maxDepth,
+                            profile.getDepth(), profile.format());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Evaluates the provider and verifies that the evaluation, including all stages of the profiled chain of
+     * {@link #map(Transformer) map} and {@link #flatMap(Transformer) flatMap} calls, completes within the
+     * specified time. Call {@link #profiled()} to start profiling the chain. On failure, the number of invocations
+     * of each stage and the time spent in it are reported.
+     *
+     * @param duration Maximum time to evaluate the provider
+     * @return This assertion
+     */
+    public SELF totalEvaluationWithin(final Duration duration) {
+        final ProviderChainProfile profile = requireChainProfile();
+        profile.reset();
+
+        final long start = System.nanoTime();
+        CountingProviders.uncounted(this.actual::getOrNull);
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (elapsed.compareTo(duration) > 0) {
+            failWithMessage("Expected provider chain to evaluate within %d ms, but it took %d ms:%s",
+                            duration.toMillis(), elapsed.toMillis(), profile.format());
+        }
+        return this.myself;
+    }
+
     /**
      * Verifies that the {@link Provider} is not {@code null}, not empty and returns an Object assertion
      * that allows chaining assertions on the contained value.
@@ -172,8 +593,7 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      * @throws AssertionError if the {@link Provider} is null or empty.
      */
     public AbstractObjectAssert<?, VALUE> get() {
-        isPresent();
-        return Assertions.assertThat(this.actual.get());
+        return Assertions.assertThat(getPresentValue());
     }
 
     /**
@@ -189,18 +609,87 @@ public abstract class AbstractGradleProviderAssert<SELF extends AbstractGradlePr
      * @throws AssertionError if the {@link Provider} is null or empty
      */
     public <ASSERT extends AbstractAssert<?, ?>> ASSERT get(final InstanceOfAssertFactory<?, ASSERT> assertFactory) {
-        isPresent();
-        return Assertions.assertThat(this.actual.get()).asInstanceOf(assertFactory);
+        return Assertions.assertThat(getPresentValue()).asInstanceOf(assertFactory);
     }
 
-    private void checkNotNull(@Nullable final Object expectedValue) {
-        checkArgument(expectedValue != null, "The expected value must not be <null>.");
+    /**
+     * Obtains the value of the {@link Provider}. If {@link #evaluatedOnce()} has been called, the value obtained at
+     * that time is returned. Otherwise, the provider is evaluated.
+     *
+     * @return Value of the provider or {@code null} if the provider does not have a value.
+     */
+    @Nullable
+    protected VALUE getValue() {
+        return this.evaluated ? this.evaluatedValue : CountingProviders.uncounted(this.actual::getOrNull);
     }
 
-    private void assertValueIsPresent() {
+    /**
+     * Verifies that the {@link Provider} is not {@code null} and has a value, and obtains that value. If
+     * {@link #evaluatedOnce()} has been called, the value obtained at that time is returned. Otherwise, the
+     * provider is evaluated.
+     *
+     * @return Value of the provider.
+     * @throws AssertionError if the {@link Provider} is null or empty
+     */
+    protected VALUE getPresentValue() {
         isNotNull();
-        if (!this.actual.isPresent()) {
+
+        final VALUE value = getValue();
+        if (value == null) {
             failWithMessage("Expecting '%s' to contain a value, but it was empty", this.actual.toString());
         }
+        return value;
+    }
+
+    private ProviderChainProfile requireChainProfile() {
+        isNotNull();
+
+        if (this.chainProfile == null) {
+            failWithMessage("Provider chain is not being profiled. Call profiled() first.");
+        }
+        return this.chainProfile;
+    }
+
+    private CountingProviders.Counter requireCounter() {
+        isNotNull();
+
+        final CountingProviders.Counter counter = CountingProviders.find(this.actual);
+        if (counter == null) {
+            failWithMessage("Expected a provider created by CountingProviders, but was '%s'", this.actual.toString());
+        }
+        return counter;
+    }
+
+    /**
+     * Obtains the tasks that produce the value of the {@link Provider}, as tracked by Gradle.
+     *
+     * @return Producer tasks keyed by their path.
+     */
+    private Map<String, Task> producerTasks() {
+        isNotNull();
+
+        final Map<String, Task> tasks = new TreeMap<>();
+        if (this.actual instanceof ProviderInternal<?> providerInternal) {
+            providerInternal.getProducer().visitProducerTasks(task -> tasks.put(task.getPath(), task));
+        }
+        return tasks;
+    }
+
+    /**
+     * Verifies that the actual value is a Gradle {@link Property}.
+     *
+     * @return The actual value as a Gradle property.
+     */
+    private PropertyInternal<?> requireProperty() {
+        isNotNull();
+
+        if (!(this.actual instanceof PropertyInternal<?>)) {
+            failWithMessage("Expected a Gradle property, but was '%s'", this.actual.toString());
+        }
+        return (PropertyInternal<?>)this.actual;
+    }
+
+    private void checkNotNull(@Nullable final Object expectedValue) {
+        checkArgument(expectedValue != null, "The expected value must not be <null>.");
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+
+/**
+ * Measures the memory allocated by the current thread using the HotSpot extension of the {@link ThreadMXBean}.
+ */
+final class AllocationMeter {
+
+    /** Value returned when the JVM does not support measuring thread allocations. */
+    static final long UNSUPPORTED = -1;
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Indicates whether the JVM supports measuring the memory allocated by a thread.
+     *
+     * @return {@code true} if thread allocations can be measured.
+     */
+    static boolean isSupported() {
+        return THREAD_BEAN instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Obtains the total number of bytes allocated by the current thread since it started.
+     *
+     * @return Number of bytes allocated by the current thread, or {@link #UNSUPPORTED} if thread allocations
+     *      cannot be measured.
+     */
+    static long currentThreadAllocatedBytes() {
+        return isSupported()
+               ? ((com.sun.management.ThreadMXBean)THREAD_BEAN).getCurrentThreadAllocatedBytes()
+               : UNSUPPORTED;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import groovy.lang.GroovyObject;
+
+
+/**
+ * Filters shared by the reflective audits of Gradle types (see {@link LazyTypeAudit} and {@link TaskInputAudit}).
+ * Members declared by JDK and Groovy classes are not part of the Gradle model of a type and are ignored, as are the
+ * {@link GroovyObject} methods that the Groovy compiler generates in every Groovy class.
+ */
+final class AuditFilters {
+
+    private static final List<String> IGNORED_PACKAGES = List.of("java.", "groovy.", "org.codehaus.groovy.");
+
+    private AuditFilters() {
+    }
+
+    /**
+     * Indicates whether the specified type is a JDK or Groovy type whose members are not audited.
+     *
+     * @param type Type to check
+     * @return {@code true} if the members of the type are ignored.
+     */
+    static boolean isIgnored(final Class<?> type) {
+        final String className = type.getName();
+        return IGNORED_PACKAGES.stream().anyMatch(className::startsWith);
+    }
+
+    /**
+     * Indicates whether the specified method is ignored. A method is ignored if it is declared by a JDK or Groovy
+     * type, or if it implements a {@link GroovyObject} method such as {@code setMetaClass}. The Groovy compiler
+     * declares the {@link GroovyObject} methods in each Groovy class, so they are not excluded by their declaring
+     * type.
+     *
+     * @param method Method to check
+     * @return {@code true} if the method is ignored.
+     */
+    static boolean isIgnored(final Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        if (isIgnored(declaringClass)) {
+            return true;
+        }
+        if (!GroovyObject.class.isAssignableFrom(declaringClass)) {
+            return false;
+        }
+        try {
+            GroovyObject.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
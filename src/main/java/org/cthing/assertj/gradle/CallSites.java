@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.List;
+
+
+/**
+ * Locates the code responsible for an action observed by this library (e.g. realizing a task or evaluating a
+ * provider). JDK, Groovy, Kotlin, Gradle, AssertJ and JUnit frames are skipped, as are the frames of the classes in
+ * this library that observe the actions, so that the location is typically in a plugin, build logic or a test.
+ */
+final class CallSites {
+
+    private static final List<String> INFRASTRUCTURE_PREFIXES = List.of(
+            "java.",
+            "jdk.",
+            "sun.",
+            "groovy.",
+            "org.codehaus.groovy.",
+            "kotlin.",
+            "org.gradle.api.internal.",
+            "org.gradle.configuration.",
+            "org.gradle.internal.",
+            "org.gradle.util.",
+            "org.assertj.",
+            "org.junit."
+    );
+
+    private static final List<String> OBSERVER_CLASSES = List.of(
+            CallSites.class.getName(),
+            TaskRealizationRecorder.class.getName(),
+            CountingProviders.class.getName(),
+            AbstractGradleProviderAssert.class.getName(),
+            GradleProviderAssert.class.getName()
+    );
+
+    private CallSites() {
+    }
+
+    /**
+     * Finds the first stack frame of the current thread that is not part of the infrastructure.
+     *
+     * @return Location of the code responsible for the current action.
+     */
+    static StackTraceElement find() {
+        final StackTraceElement[] frames = new Throwable().getStackTrace();
+        for (final StackTraceElement frame : frames) {
+            if (!isInfrastructure(frame.getClassName())) {
+                return frame;
+            }
+        }
+        return frames[frames.length - 1];
+    }
+
+    private static boolean isInfrastructure(final String className) {
+        return INFRASTRUCTURE_PREFIXES.stream().anyMatch(className::startsWith)
+                || OBSERVER_CLASSES.stream().anyMatch(name -> className.equals(name)
+                                                             || className.startsWith(name + "$"));
+    }
+}
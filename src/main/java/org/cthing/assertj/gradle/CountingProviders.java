@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.gradle.api.Transformer;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.provider.ProviderFactory;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Creates Gradle {@link Provider}s that count the number of times they are evaluated. Use these providers in place
+ * of those created by {@link ProviderFactory#provider(Callable)} and {@link Provider#map(Transformer)} to verify
+ * that providers remain lazy using the {@link GradleProviderAssert#isNotEvaluatedDuring(Runnable)} and
+ * {@link GradleProviderAssert#evaluatesAtMostOnce()} assertions. For example:
+ * <pre>
+ * final Provider&lt;String&gt; version = CountingProviders.provider(project.getProviders(), () -&gt; "1.0");
+ * assertThat(version).isNotEvaluatedDuring(() -&gt; extension.getVersion().set(version));
+ * </pre>
+ * Evaluations performed by the provider assertions themselves are not counted.
+ */
+public final class CountingProviders {
+
+    /**
+     * Evaluation count of a provider. The number of evaluations is kept for each location in the code where the
+     * provider was evaluated, so the memory used depends on the number of locations rather than the number of
+     * evaluations.
+     */
+    static final class Counter {
+        private final Map<StackTraceElement, Integer> sites = new LinkedHashMap<>();
+        private int count;
+
+        private void evaluated() {
+            final AtomicInteger tally = TALLY.get();
+            if (tally != null) {
+                tally.incrementAndGet();
+            }
+            if (!SUSPENDED.get()) {
+                final StackTraceElement site = CallSites.find();
+                synchronized (this) {
+                    this.count++;
+                    this.sites.merge(site, 1, Integer::sum);
+                }
+            }
+        }
+
+        /**
+         * Obtains the number of times the provider has been evaluated.
+         *
+         * @return Number of evaluations.
+         */
+        synchronized int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Obtains the number of times the provider has been evaluated at each location in the code.
+         *
+         * @return Number of evaluations keyed by location, in the order in which the locations were first seen.
+         */
+        synchronized Map<StackTraceElement, Integer> getSiteCounts() {
+            return new LinkedHashMap<>(this.sites);
+        }
+
+        /**
+         * Creates a report of the locations in the code where the provider was evaluated.
+         *
+         * @return Report with one line per location.
+         */
+        String report() {
+            return report(Map.of());
+        }
+
+        /**
+         * Creates a report of the locations in the code where the provider was evaluated since the specified
+         * evaluation counts were obtained.
+         *
+         * @param baseline Evaluation counts previously obtained using {@link #getSiteCounts()}
+         * @return Report with one line per location at which the provider has been evaluated since the baseline.
+         */
+        String report(final Map<StackTraceElement, Integer> baseline) {
+            final StringBuilder buffer = new StringBuilder();
+            getSiteCounts().forEach((site, siteCount) -> {
+                final int evaluations = siteCount - baseline.getOrDefault(site, 0);
+                if (evaluations == 1) {
+                    buffer.append("\n  evaluated at ").append(site);
+                } else if (evaluations > 1) {
+                    buffer.append("\n  evaluated ").append(evaluations).append(" times at ").append(site);
+                }
+            });
+            return buffer.toString();
+        }
+    }
+
+    private static final Map<Provider<?>, Counter> COUNTERS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ThreadLocal<Boolean> SUSPENDED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private static final ThreadLocal<@Nullable AtomicInteger> TALLY = new ThreadLocal<>();
+
+    private CountingProviders() {
+    }
+
+    /**
+     * Creates a provider whose value is obtained from the specified {@link Callable} and that counts the number of
+     * times it is evaluated. Equivalent to {@link ProviderFactory#provider(Callable)}.
+     *
+     * @param <T> Type of the value provided
+     * @param providerFactory Factory used to create the provider
+     * @param value Obtains the value of the provider
+     * @return Evaluation counting provider.
+     */
+    public static <T> Provider<T> provider(final ProviderFactory providerFactory,
+                                           final Callable<? extends @Nullable T> value) {
+        final Counter counter = new Counter();
+        final Provider<T> provider = providerFactory.provider(() -> {
+            counter.evaluated();
+            return value.call();
+        });
+        COUNTERS.put(provider, counter);
+        return provider;
+    }
+
+    /**
+     * Creates a provider whose value is obtained by transforming the value of the specified provider and that
+     * counts the number of times it is evaluated. Equivalent to {@link Provider#map(Transformer)}.
+     *
+     * @param <S> Type of the value provided by the resulting provider
+     * @param <T> Type of the value provided by the provider to transform
+     * @param provider Provider whose value is to be transformed
+     * @param transformer Transforms the value of the provider
+     * @return Evaluation counting provider.
+     */
+    public static <S, T> Provider<S> map(final Provider<T> provider,
+                                         final Transformer<? extends @Nullable S, ? super T> transformer) {
+        final Counter counter = new Counter();
+        final Provider<S> mapped = provider.map(value -> {
+            counter.evaluated();
+            return transformer.transform(value);
+        });
+        COUNTERS.put(mapped, counter);
+        return mapped;
+    }
+
+    /**
+     * Obtains the number of times the specified provider has been evaluated.
+     *
+     * @param provider Provider created by this class
+     * @return Number of times the provider has been evaluated.
+     * @throws IllegalArgumentException if the provider was not created by this class
+     */
+    public static int getEvaluationCount(final Provider<?> provider) {
+        final Counter counter = find(provider);
+        if (counter == null) {
+            throw new IllegalArgumentException("Provider was not created by CountingProviders: " + provider);
+        }
+        return counter.getCount();
+    }
+
+    /**
+     * Obtains the evaluation counter for the specified provider.
+     *
+     * @param provider Provider whose counter is desired
+     * @return Counter for the provider, or {@code null} if the provider was not created by this class.
+     */
+    @Nullable
+    static Counter find(final Provider<?> provider) {
+        return COUNTERS.get(provider);
+    }
+
+    /**
+     * Obtains a value without counting the evaluations of providers on the current thread.
+     *
+     * @param <T> Type of the value
+     * @param supplier Obtains the value
+     * @return Value obtained from the supplier.
+     */
+    @Nullable
+    static <T> T uncounted(final Supplier<? extends @Nullable T> supplier) {
+        final boolean suspended = SUSPENDED.get();
+        SUSPENDED.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            SUSPENDED.set(suspended);
+        }
+    }
+
+    /**
+     * Counts the evaluations of all providers created by this class that occur on the current thread while running
+     * the specified action. Evaluations are counted even if they occur within {@link #uncounted(Supplier)}.
+     *
+     * @param action Action during which evaluations are counted
+     * @return Number of provider evaluations.
+     */
+    static int tally(final Runnable action) {
+        final AtomicInteger previous = TALLY.get();
+        final AtomicInteger tally = new AtomicInteger();
+        TALLY.set(tally);
+        try {
+            action.run();
+        } finally {
+            TALLY.set(previous);
+        }
+        return tally.get();
+    }
+}
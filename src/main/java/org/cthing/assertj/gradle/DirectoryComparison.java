@@ -0,0 +1,400 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Compares the files in a directory tree with the files in an expected directory tree. Both trees are walked using
+ * multiple threads, and the files present in both trees are compared concurrently. Files whose sizes differ are
+ * rejected without reading them, and files of the same size are compared a chunk at a time so that large files are
+ * never read onto the heap. Files are read rather than memory mapped, because a mapped file remains locked on
+ * Windows until the mapping is garbage collected.
+ */
+final class DirectoryComparison {
+
+    /** Default maximum number of differing lines reported for each changed text file. */
+    static final int DEFAULT_MAX_DIFF_LINES = 10;
+
+    /** Number of bytes examined to decide whether a file contains text. */
+    private static final int TEXT_PROBE_SIZE = 8192;
+
+    /** Lines longer than this are truncated in the report. */
+    private static final int MAX_LINE_LENGTH = 200;
+
+    /** Files at least this large are compared a chunk at a time using reusable buffers. */
+    private static final long CHUNKED_COMPARE_THRESHOLD = 1024 * 1024;
+
+    /** Number of bytes of each file read at a time when comparing large files. */
+    private static final int COMPARE_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Buffers used by each thread to compare large files. The buffers are allocated the first time a thread compares
+     * a large file and are reused for all its later comparisons, so that comparing many large files does not
+     * repeatedly allocate direct memory.
+     */
+    private static final ThreadLocal<BufferPair> COMPARE_BUFFERS =
+            ThreadLocal.withInitial(() -> new BufferPair(ByteBuffer.allocateDirect(COMPARE_CHUNK_SIZE),
+                                                         ByteBuffer.allocateDirect(COMPARE_CHUNK_SIZE)));
+
+    /**
+     * Buffers into which the chunks of the two files being compared are read.
+     *
+     * @param buffer1 Buffer for the first file
+     * @param buffer2 Buffer for the second file
+     */
+    private record BufferPair(ByteBuffer buffer1, ByteBuffer buffer2) {
+    }
+
+    /**
+     * Line endings found in a text file.
+     *
+     * @param lf Number of lines ending with a line feed
+     * @param crlf Number of lines ending with a carriage return and line feed
+     * @param cr Number of lines ending with a carriage return
+     * @param endsWithNewline Whether the last line of the file is terminated by a line ending
+     */
+    private record LineEndings(int lf, int crlf, int cr, boolean endsWithNewline) {
+
+        /**
+         * Describes the style of the line endings.
+         *
+         * @return "LF", "CRLF" or "CR" if the file uses a single style, "mixed" if it uses several styles, or
+         *      "none" if the file has no line endings.
+         */
+        String style() {
+            final int numStyles = (this.lf > 0 ? 1 : 0) + (this.crlf > 0 ? 1 : 0) + (this.cr > 0 ? 1 : 0);
+            if (numStyles == 0) {
+                return "none";
+            }
+            if (numStyles > 1) {
+                return "mixed";
+            }
+            return this.lf > 0 ? "LF" : (this.crlf > 0 ? "CRLF" : "CR");
+        }
+    }
+
+    private final Path actualDir;
+    private final Path expectedDir;
+    private final int maxDiffLines;
+    private final List<String> added;
+    private final List<String> removed;
+    private final List<String> changed;
+
+    /**
+     * Compares the specified directory trees.
+     *
+     * @param actualDir Directory to compare
+     * @param expectedDir Directory containing the expected files
+     * @param maxDiffLines Maximum number of differing lines to report for each changed text file
+     * @throws UncheckedIOException if a directory or file could not be read
+     */
+    DirectoryComparison(final Path actualDir, final Path expectedDir, final int maxDiffLines) {
+        this.actualDir = actualDir;
+        this.expectedDir = expectedDir;
+        this.maxDiffLines = maxDiffLines;
+
+        final Map<String, Long> actualSizes = walk(actualDir);
+        final Map<String, Long> expectedSizes = walk(expectedDir);
+
+        this.added = new ArrayList<>();
+        this.removed = new ArrayList<>();
+        final List<String> common = new ArrayList<>();
+        actualSizes.keySet().forEach(path -> (expectedSizes.containsKey(path) ? common : this.added).add(path));
+        expectedSizes.keySet().stream().filter(path -> !actualSizes.containsKey(path)).forEach(this.removed::add);
+
+        this.changed = common.parallelStream()
+                             .filter(path -> !actualSizes.get(path).equals(expectedSizes.get(path))
+                                     || mismatch(actualDir.resolve(path), expectedDir.resolve(path)) >= 0)
+                             .sorted()
+                             .toList();
+        Collections.sort(this.added);
+        Collections.sort(this.removed);
+    }
+
+    /**
+     * Indicates whether the directory trees contain the same files with the same contents.
+     *
+     * @return {@code true} if the trees are equivalent.
+     */
+    boolean isEquivalent() {
+        return this.added.isEmpty() && this.removed.isEmpty() && this.changed.isEmpty();
+    }
+
+    /**
+     * Creates a report of the differences between the directory trees for inclusion in a failure message. For
+     * each changed text file, the differing lines are listed up to the maximum specified when the comparison was
+     * created. Each file is read line by line and reading stops once the maximum is reached. Text files with the same
+     * lines are reported as differing in their line endings or in the newline at the end of the file. For other
+     * changed files, the sizes or the offset of the first differing byte are reported. As with the other sections,
+     * at most {@link FileReports#MAX_REPORTED_FILES} changed files are described.
+     *
+     * @return Report with a section for each kind of difference.
+     */
+    String report() {
+        final StringBuilder buffer = new StringBuilder();
+        section(buffer, "Added files", this.added);
+        section(buffer, "Removed files", this.removed);
+        if (!this.changed.isEmpty()) {
+            buffer.append("\nChanged files (").append(this.changed.size()).append("):")
+                  .append(FileReports.list(this.changed, this::describe));
+        }
+        return buffer.toString();
+    }
+
+    private static void section(final StringBuilder buffer, final String title, final List<String> paths) {
+        if (!paths.isEmpty()) {
+            buffer.append('\n').append(title).append(" (").append(paths.size()).append("):")
+                  .append(FileReports.list(paths));
+        }
+    }
+
+    /**
+     * Describes how a changed file differs from the expected file.
+     *
+     * @param path Path of the file relative to the directories
+     * @return Path of the file followed by a description of the differences.
+     */
+    private String describe(final String path) {
+        final Path actualFile = this.actualDir.resolve(path);
+        final Path expectedFile = this.expectedDir.resolve(path);
+
+        try {
+            if (isText(actualFile) && isText(expectedFile)) {
+                final String lineDiff = diffLines(actualFile, expectedFile);
+                if (lineDiff != null) {
+                    return path + (lineDiff.isEmpty() ? diffLineEndings(actualFile, expectedFile) : lineDiff);
+                }
+            }
+
+            final long actualSize = Files.size(actualFile);
+            final long expectedSize = Files.size(expectedFile);
+            if (actualSize != expectedSize) {
+                return String.format("%s (expected %d bytes, but was %d bytes)", path, expectedSize, actualSize);
+            }
+            return String.format("%s (differs at byte %d)", path, mismatch(actualFile, expectedFile));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Compares two text files line by line, reporting the differing lines by position. Both files are read
+     * incrementally and reading stops once the maximum number of differing lines has been found.
+     *
+     * @param actualFile File to compare
+     * @param expectedFile File containing the expected lines
+     * @return Report of the differing lines, an empty string if the files have the same lines, or {@code null} if
+     *      the files are not valid UTF-8 text.
+     */
+    @Nullable
+    private String diffLines(final Path actualFile, final Path expectedFile) throws IOException {
+        final StringBuilder buffer = new StringBuilder();
+        try (BufferedReader actualReader = Files.newBufferedReader(actualFile, StandardCharsets.UTF_8);
+             BufferedReader expectedReader = Files.newBufferedReader(expectedFile, StandardCharsets.UTF_8)) {
+            int numDiffs = 0;
+            for (int lineNumber = 1;; lineNumber++) {
+                final String actualLine = actualReader.readLine();
+                final String expectedLine = expectedReader.readLine();
+                if (actualLine == null && expectedLine == null) {
+                    break;
+                }
+                if (actualLine != null && actualLine.equals(expectedLine)) {
+                    continue;
+                }
+                if (numDiffs == this.maxDiffLines) {
+                    buffer.append("\n    ... more differing lines omitted");
+                    break;
+                }
+                numDiffs++;
+                buffer.append("\n    line ").append(lineNumber).append(": expected ").append(quote(expectedLine))
+                      .append(" but was ").append(quote(actualLine));
+            }
+        } catch (final CharacterCodingException ex) {
+            return null;
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Describes the differences between two text files that have the same lines but different contents. Such files
+     * can only differ in their line endings or in whether the last line is terminated.
+     *
+     * @param actualFile File to compare
+     * @param expectedFile File containing the expected line endings
+     * @return Description of the line ending differences.
+     */
+    private static String diffLineEndings(final Path actualFile, final Path expectedFile) throws IOException {
+        final LineEndings actual = lineEndings(actualFile);
+        final LineEndings expected = lineEndings(expectedFile);
+
+        final List<String> differences = new ArrayList<>();
+        final String actualStyle = actual.style();
+        final String expectedStyle = expected.style();
+        // A file without line endings is a single unterminated line, so only its final newline can differ
+        if (!actualStyle.equals(expectedStyle) && !"none".equals(actualStyle) && !"none".equals(expectedStyle)) {
+            differences.add("line endings are " + actualStyle + " rather than " + expectedStyle);
+        }
+        if (expected.endsWithNewline() && !actual.endsWithNewline()) {
+            differences.add("the newline at the end of the file is missing");
+        } else if (!expected.endsWithNewline() && actual.endsWithNewline()) {
+            differences.add("there is an unexpected newline at the end of the file");
+        }
+        if (differences.isEmpty()) {
+            // The files use the same line ending styles, but on different lines
+            differences.add("line endings differ");
+        }
+        return " (same lines, but " + String.join(" and ", differences) + ")";
+    }
+
+    /**
+     * Counts the line endings in a text file.
+     *
+     * @param file File to examine
+     * @return Line endings found in the file.
+     */
+    private static LineEndings lineEndings(final Path file) throws IOException {
+        int lf = 0;
+        int crlf = 0;
+        int cr = 0;
+        int previous = -1;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            for (int b = input.read(); b >= 0; b = input.read()) {
+                if (b == '\r') {
+                    cr++;
+                } else if (b == '\n') {
+                    if (previous == '\r') {
+                        cr--;
+                        crlf++;
+                    } else {
+                        lf++;
+                    }
+                }
+                previous = b;
+            }
+        }
+        return new LineEndings(lf, crlf, cr, previous == '\n' || previous == '\r');
+    }
+
+    private static String quote(@Nullable final String line) {
+        if (line == null) {
+            return "<end of file>";
+        }
+        return line.length() > MAX_LINE_LENGTH ? '"' + line.substring(0, MAX_LINE_LENGTH) + "...\"" : '"' + line + '"';
+    }
+
+    /**
+     * Walks a directory tree using multiple threads.
+     *
+     * @param dir Directory to walk
+     * @return Size of each regular file in the tree, keyed by its path relative to the directory using '/' as the
+     *      separator.
+     */
+    private static Map<String, Long> walk(final Path dir) {
+        final Map<String, Long> sizes = new ConcurrentHashMap<>();
+        DirectoryWalker.walk(dir, (file, attrs) -> sizes.put(dir.relativize(file).toString()
+                                                                .replace(File.separatorChar, '/'), attrs.size()));
+        return sizes;
+    }
+
+    /**
+     * Indicates whether the specified file appears to contain text, which is the case if there are no null bytes at
+     * its start.
+     *
+     * @param file File to examine
+     * @return {@code true} if the file appears to be text.
+     */
+    private static boolean isText(final Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            for (final byte b : input.readNBytes(TEXT_PROBE_SIZE)) {
+                if (b == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the offset of the first byte that differs between two files. Large files are read and compared a chunk
+     * at a time using a pair of direct buffers that the calling thread reuses for every chunk and every comparison.
+     *
+     * @param file1 First file to compare
+     * @param file2 Second file to compare
+     * @return Offset of the first differing byte, or -1 if the files have the same contents.
+     * @throws UncheckedIOException if a file could not be read
+     */
+    private static long mismatch(final Path file1, final Path file2) {
+        try {
+            final long size = Files.size(file1);
+            if (size < CHUNKED_COMPARE_THRESHOLD || size != Files.size(file2)) {
+                return Files.mismatch(file1, file2);
+            }
+
+            final BufferPair buffers = COMPARE_BUFFERS.get();
+            final ByteBuffer buffer1 = buffers.buffer1();
+            final ByteBuffer buffer2 = buffers.buffer2();
+            try (FileChannel channel1 = FileChannel.open(file1, StandardOpenOption.READ);
+                 FileChannel channel2 = FileChannel.open(file2, StandardOpenOption.READ)) {
+                long position = 0;
+                while (true) {
+                    final boolean more1 = fill(channel1, buffer1);
+                    final boolean more2 = fill(channel2, buffer2);
+                    final int offset = buffer1.mismatch(buffer2);
+                    if (offset >= 0) {
+                        return position + offset;
+                    }
+                    if (!more1 && !more2) {
+                        return -1;
+                    }
+                    position += buffer1.remaining();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Reads from a channel until the buffer is full or the end of the channel is reached, and then flips the buffer
+     * so that the bytes read can be compared.
+     *
+     * @param channel Channel to read
+     * @param buffer Buffer to fill. The buffer is cleared before reading.
+     * @return {@code true} if the buffer was filled and the end of the channel might not have been reached.
+     */
+    private static boolean fill(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+
+/**
+ * Walks the regular files in a directory tree using multiple threads. The top levels of the tree are listed until
+ * there are enough subdirectories to keep the available processors busy, and the subdirectories are then walked
+ * concurrently using {@link Files#walkFileTree(Path, java.util.Set, int, java.nio.file.FileVisitor)}. Symbolic links
+ * are followed. A link to a directory that is an ancestor of the link is detected as soon as it is reached, whether
+ * while listing the top levels or while walking a subdirectory, and the walk fails with a
+ * {@link FileSystemLoopException} so that the files in the loop are not visited more than once.
+ */
+final class DirectoryWalker {
+
+    private static final int MAX_SPLIT_DEPTH = 4;
+    private static final int DIRECTORIES_PER_THREAD = 4;
+
+    /**
+     * Directory to be listed or walked.
+     *
+     * @param dir Path of the directory
+     * @param key Key identifying the directory
+     * @param ancestors Keys identifying the ancestors of the directory, starting with the root of the walk
+     */
+    private record Branch(Path dir, Object key, List<Object> ancestors) {
+    }
+
+    private DirectoryWalker() {
+    }
+
+    /**
+     * Visits the regular files in the specified directory tree. The visitor is called concurrently from multiple
+     * threads, in no particular order, so it must be thread safe.
+     *
+     * @param root Directory to walk
+     * @param visitor Called with the path and attributes of each regular file in the tree
+     * @throws UncheckedIOException if the tree could not be read or contains a symbolic link loop
+     */
+    static void walk(final Path root, final BiConsumer<Path, BasicFileAttributes> visitor) {
+        final int targetDirectories = Runtime.getRuntime().availableProcessors() * DIRECTORIES_PER_THREAD;
+
+        List<Branch> branches;
+        try {
+            branches = List.of(new Branch(root, key(root, Files.readAttributes(root, BasicFileAttributes.class)),
+                                          List.of()));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        for (int depth = 0; depth < MAX_SPLIT_DEPTH && !branches.isEmpty()
+                && branches.size() < targetDirectories; depth++) {
+            branches = list(branches, visitor);
+        }
+
+        branches.parallelStream().forEach(branch -> {
+            try {
+                Files.walkFileTree(branch.dir(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                                   new SimpleFileVisitor<>() {
+                                       @Override
+                                       public FileVisitResult preVisitDirectory(final Path dir,
+                                                                                final BasicFileAttributes attrs)
+                                               throws IOException {
+                                           // Loops within the branch are detected by walkFileTree itself
+                                           if (branch.ancestors().contains(key(dir, attrs))) {
+                                               throw new FileSystemLoopException(dir.toString());
+                                           }
+                                           return FileVisitResult.CONTINUE;
+                                       }
+
+                                       @Override
+                                       public FileVisitResult visitFile(final Path file,
+                                                                        final BasicFileAttributes attrs) {
+                                           if (attrs.isRegularFile()) {
+                                               visitor.accept(file, attrs);
+                                           }
+                                           return FileVisitResult.CONTINUE;
+                                       }
+                                   });
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Lists the contents of the specified directories, visiting the regular files they contain.
+     *
+     * @param branches Directories to list
+     * @param visitor Called with the path and attributes of each regular file in the directories
+     * @return Subdirectories of the directories.
+     * @throws UncheckedIOException if a directory could not be read or a subdirectory is one of its own ancestors
+     */
+    private static List<Branch> list(final List<Branch> branches,
+                                     final BiConsumer<Path, BasicFileAttributes> visitor) {
+        final List<Branch> subdirectories = new ArrayList<>();
+        for (final Branch branch : branches) {
+            final List<Object> ancestors = new ArrayList<>(branch.ancestors());
+            ancestors.add(branch.key());
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(branch.dir())) {
+                for (final Path entry : entries) {
+                    final BasicFileAttributes attrs = readAttributes(entry);
+                    if (attrs.isDirectory()) {
+                        final Object key = key(entry, attrs);
+                        if (ancestors.contains(key)) {
+                            throw new FileSystemLoopException(entry.toString());
+                        }
+                        subdirectories.add(new Branch(entry, key, ancestors));
+                    } else if (attrs.isRegularFile()) {
+                        visitor.accept(entry, attrs);
+                    }
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return subdirectories;
+    }
+
+    /**
+     * Reads the attributes of the specified directory entry, following symbolic links. As when walking a
+     * subdirectory using {@link Files#walkFileTree(Path, java.util.Set, int, java.nio.file.FileVisitor)}, if the
+     * target of a link cannot be read (e.g. the link is dangling), the attributes of the link itself are returned so
+     * that the entry is skipped as neither a directory nor a regular file.
+     *
+     * @param entry Directory entry whose attributes are to be read
+     * @return Attributes of the entry.
+     * @throws IOException if the attributes of the entry could not be read
+     */
+    private static BasicFileAttributes readAttributes(final Path entry) throws IOException {
+        try {
+            return Files.readAttributes(entry, BasicFileAttributes.class);
+        } catch (final IOException ex) {
+            try {
+                return Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (final IOException ignored) {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Obtains a key that identifies the specified directory regardless of the links used to reach it.
+     *
+     * @param dir Directory to identify
+     * @param attrs Attributes of the directory
+     * @return File key of the directory if the platform provides one, otherwise its real path.
+     */
+    private static Object key(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        final Object fileKey = attrs.fileKey();
+        return fileKey != null ? fileKey : dir.toRealPath();
+    }
+}
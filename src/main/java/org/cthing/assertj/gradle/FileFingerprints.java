@@ -0,0 +1,319 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Computes, reads and writes SHA-256 fingerprints of the contents of files. A fingerprint manifest lists one file
+ * per line as the hex encoded hash followed by two spaces and the relative path of the file, sorted by path. This is
+ * the format used by the {@code sha256sum} command, so a manifest can also be checked using
+ * {@code sha256sum --check}. As with {@code sha256sum}, a path containing a backslash, newline or carriage return is
+ * written with those characters escaped as {@code \\}, {@code \n} and {@code \r}, and the line is prefixed with a
+ * backslash. When reading a manifest, lines written by {@code sha256sum} in binary mode (i.e. with a {@code *}
+ * rather than a space before the path) and escaped lines are accepted. The BSD style tagged format
+ * ({@code sha256sum --tag}) is not supported.
+ */
+final class FileFingerprints {
+
+    /**
+     * System property that, when set to {@code true}, causes the fingerprint assertions to write the manifest
+     * rather than compare against it.
+     */
+    static final String UPDATE_PROPERTY = "org.cthing.assertj.gradle.updateFingerprints";
+
+    /** Files at least this large are read a chunk at a time rather than in full. */
+    private static final long CHUNKED_READ_THRESHOLD = 1024 * 1024;
+
+    /** Number of bytes of a file read at a time when hashing large files. */
+    private static final int READ_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Buffer used by each thread to read large files. A heap buffer is used because the digest can then consume the
+     * bytes without copying them.
+     */
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(READ_CHUNK_SIZE));
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 64;
+    private static final String SEPARATOR = "  ";
+    private static final char BINARY_MODE = '*';
+    private static final char ESCAPE = '\\';
+
+    /**
+     * Differences between the computed fingerprints and those in a manifest.
+     *
+     * @param missing Paths in the manifest but not among the computed fingerprints
+     * @param unexpected Paths among the computed fingerprints but not in the manifest
+     * @param changed Paths whose computed fingerprint differs from that in the manifest
+     */
+    record Differences(List<String> missing, List<String> unexpected, List<String> changed) {
+
+        /**
+         * Indicates whether there are any differences.
+         *
+         * @return {@code true} if the fingerprints match the manifest.
+         */
+        boolean isEmpty() {
+            return this.missing.isEmpty() && this.unexpected.isEmpty() && this.changed.isEmpty();
+        }
+
+        /**
+         * Creates a report of the differences for inclusion in a failure message.
+         *
+         * @return Report with a section for each kind of difference.
+         */
+        String report() {
+            final StringBuilder buffer = new StringBuilder();
+            section(buffer, "Changed files", this.changed);
+            section(buffer, "Missing files", this.missing);
+            section(buffer, "Unexpected files", this.unexpected);
+            return buffer.toString();
+        }
+
+        private static void section(final StringBuilder buffer, final String title, final List<String> paths) {
+            if (!paths.isEmpty()) {
+                buffer.append('\n').append(title).append(" (").append(paths.size()).append("):")
+                      .append(FileReports.list(paths));
+            }
+        }
+    }
+
+    private FileFingerprints() {
+    }
+
+    /**
+     * Indicates whether manifests should be written rather than compared against.
+     *
+     * @return {@code true} if the {@link #UPDATE_PROPERTY} system property is set to {@code true}.
+     */
+    static boolean isUpdating() {
+        return Boolean.getBoolean(UPDATE_PROPERTY);
+    }
+
+    /**
+     * Computes the fingerprints of the specified files. The files are hashed concurrently.
+     *
+     * @param files Files to fingerprint, keyed by their relative path
+     * @return Hex encoded SHA-256 hash of each file, keyed by its relative path, sorted by path.
+     * @throws UncheckedIOException if a file could not be read
+     */
+    static SortedMap<String, String> compute(final Map<String, Path> files) {
+        final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+        files.entrySet().parallelStream().forEach(entry -> fingerprints.put(entry.getKey(), hash(entry.getValue())));
+        return new TreeMap<>(fingerprints);
+    }
+
+    /**
+     * Reads a fingerprint manifest.
+     *
+     * @param manifest Manifest file to read
+     * @return Hash of each file in the manifest, keyed by its relative path, sorted by path.
+     * @throws UncheckedIOException if the manifest could not be read
+     * @throws IllegalArgumentException if the manifest contains a malformed line, a hash that is not 64 hex digits,
+     *      or the same path more than once
+     */
+    static SortedMap<String, String> read(final Path manifest) {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        final SortedMap<String, String> fingerprints = new TreeMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            // Each line is the hash, a space, a mode character (space for text or '*' for binary) and the path
+            final boolean escaped = line.charAt(0) == ESCAPE;
+            final int hashStart = escaped ? 1 : 0;
+            final int separator = line.indexOf(' ', hashStart);
+            final int pathStart = separator + 2;
+            if (separator <= hashStart || pathStart >= line.length()
+                    || (line.charAt(separator + 1) != ' ' && line.charAt(separator + 1) != BINARY_MODE)) {
+                throw malformed(manifest, i, line);
+            }
+
+            final String hash = line.substring(hashStart, separator);
+            final String path = escaped ? unescape(line.substring(pathStart)) : line.substring(pathStart);
+            if (path == null || !isHash(hash) || fingerprints.putIfAbsent(path, hash) != null) {
+                throw malformed(manifest, i, line);
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Indicates whether the specified string is a hex encoded SHA-256 hash. Both upper and lower case hex digits are
+     * accepted.
+     *
+     * @param hash String to check
+     * @return {@code true} if the string consists of exactly 64 hex digits.
+     */
+    private static boolean isHash(final String hash) {
+        return hash.length() == HASH_LENGTH && hash.chars().allMatch(HexFormat::isHexDigit);
+    }
+
+    private static IllegalArgumentException malformed(final Path manifest, final int index, final String line) {
+        return new IllegalArgumentException("Malformed line " + (index + 1) + " in fingerprint manifest '" + manifest
+                                                    + "': " + line);
+    }
+
+    /**
+     * Writes a fingerprint manifest, creating its parent directories as needed.
+     *
+     * @param manifest Manifest file to write
+     * @param fingerprints Hash of each file keyed by its relative path
+     * @throws UncheckedIOException if the manifest could not be written
+     */
+    static void write(final Path manifest, final SortedMap<String, String> fingerprints) {
+        final List<String> lines = new ArrayList<>(fingerprints.size());
+        fingerprints.forEach((path, hash) -> {
+            final String escapedPath = escape(path);
+            lines.add(escapedPath.equals(path) ? hash + SEPARATOR + path : ESCAPE + hash + SEPARATOR + escapedPath);
+        });
+        try {
+            final Path parent = manifest.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(manifest, lines, StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Escapes the backslash, newline and carriage return characters in a path in the same way as
+     * {@code sha256sum}.
+     *
+     * @param path Path to escape
+     * @return Escaped path, or the path itself if it contains no characters that need escaping.
+     */
+    private static String escape(final String path) {
+        if (path.indexOf(ESCAPE) < 0 && path.indexOf('\n') < 0 && path.indexOf('\r') < 0) {
+            return path;
+        }
+        return path.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses the escaping performed by {@link #escape(String)}.
+     *
+     * @param path Escaped path
+     * @return Unescaped path, or {@code null} if the path contains an invalid escape sequence.
+     */
+    @Nullable
+    private static String unescape(final String path) {
+        final StringBuilder buffer = new StringBuilder(path.length());
+        int i = 0;
+        while (i < path.length()) {
+            final char ch = path.charAt(i++);
+            if (ch != ESCAPE) {
+                buffer.append(ch);
+            } else if (i == path.length()) {
+                return null;
+            } else {
+                switch (path.charAt(i++)) {
+                    case '\\' -> buffer.append('\\');
+                    case 'n' -> buffer.append('\n');
+                    case 'r' -> buffer.append('\r');
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Compares computed fingerprints against those read from a manifest.
+     *
+     * @param actual Computed fingerprints, sorted by path
+     * @param expected Fingerprints from the manifest, sorted by path
+     * @return Differences between the fingerprints.
+     */
+    static Differences compare(final SortedMap<String, String> actual, final SortedMap<String, String> expected) {
+        final List<String> missing = new ArrayList<>();
+        final List<String> unexpected = new ArrayList<>();
+        final List<String> changed = new ArrayList<>();
+
+        expected.forEach((path, hash) -> {
+            final String actualHash = actual.get(path);
+            if (actualHash == null) {
+                missing.add(path);
+            } else if (!actualHash.equalsIgnoreCase(hash)) {
+                changed.add(path);
+            }
+        });
+        actual.keySet().stream().filter(path -> !expected.containsKey(path)).forEach(unexpected::add);
+
+        return new Differences(missing, unexpected, changed);
+    }
+
+    /**
+     * Computes the SHA-256 hash of the contents of the specified file. Large files are read a chunk at a time into
+     * a buffer that is reused by the calling thread, so that they are never read onto the heap in full. As in
+     * {@link DirectoryComparison}, files are read rather than memory mapped, because a mapped file remains locked on
+     * Windows until the mapping is garbage collected.
+     *
+     * @param file File to hash
+     * @return Hex encoded hash of the file.
+     */
+    private static String hash(final Path file) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+
+        try {
+            if (Files.size(file) < CHUNKED_READ_THRESHOLD) {
+                digest.update(Files.readAllBytes(file));
+            } else {
+                final ByteBuffer buffer = READ_BUFFER.get();
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    buffer.clear();
+                    while (channel.read(buffer) >= 0) {
+                        buffer.flip();
+                        digest.update(buffer);
+                        buffer.clear();
+                    }
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.List;
+import java.util.function.Function;
+
+
+/**
+ * Formats lists of files for inclusion in assertion failure messages.
+ */
+final class FileReports {
+
+    /** Maximum number of files listed in a failure message. */
+    static final int MAX_REPORTED_FILES = 100;
+
+    private FileReports() {
+    }
+
+    /**
+     * Describes a number of files for a failure message.
+     *
+     * @param count Number of files
+     * @return The number followed by "file" or "files" as appropriate.
+     */
+    static String fileCount(final int count) {
+        return count + (count == 1 ? " file" : " files");
+    }
+
+    /**
+     * Creates a report listing the specified paths, one per line. At most {@link #MAX_REPORTED_FILES} paths are
+     * listed, followed by the number of paths omitted.
+     *
+     * @param paths Paths to report
+     * @return Report with one line per path.
+     */
+    static String list(final List<String> paths) {
+        return list(paths, Function.identity());
+    }
+
+    /**
+     * Creates a report listing a description of each of the specified paths. At most {@link #MAX_REPORTED_FILES}
+     * paths are described, followed by the number of paths omitted, so that the omitted paths are never examined.
+     * The paths are described concurrently, and the descriptions are listed in the order of the paths.
+     *
+     * @param paths Paths to report
+     * @param describer Creates the description of a path, which may span multiple lines
+     * @return Report with one entry per path.
+     */
+    static String list(final List<String> paths, final Function<String, String> describer) {
+        final StringBuilder buffer = new StringBuilder();
+        paths.subList(0, Math.min(paths.size(), MAX_REPORTED_FILES))
+             .parallelStream()
+             .map(describer)
+             .toList()
+             .forEach(description -> buffer.append("\n  ").append(description));
+        if (paths.size() > MAX_REPORTED_FILES) {
+            buffer.append("\n  ... and ").append(paths.size() - MAX_REPORTED_FILES).append(" more");
+        }
+        return buffer.toString();
+    }
+}
@@ -12,6 +12,7 @@ import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.file.Directory;
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.file.RegularFile;
+import org.gradle.api.tasks.TaskProvider;
 
 
 /**
@@ -43,6 +44,11 @@ public final class GradleAssertFactories {
     public static final InstanceOfAssertFactory<Task, GradleTaskAssert> TASK
             = new InstanceOfAssertFactory<>(Task.class, GradleTaskAssert::assertThat);
 
+    /** Assertion factory for a {@link TaskProvider}. */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static final InstanceOfAssertFactory<TaskProvider, GradleTaskProviderAssert<Task>> TASK_PROVIDER
+            = new InstanceOfAssertFactory<>(TaskProvider.class, GradleTaskProviderAssert::<Task>assertThat);
+
     private GradleAssertFactories() {
     }
 }
@@ -5,6 +5,8 @@
 
 package org.cthing.assertj.gradle;
 
+import java.util.Map;
+
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
@@ -13,7 +15,11 @@ import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.file.RegularFile;
 import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Provider;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.TaskProvider;
 
 
 /**
@@ -34,6 +40,26 @@ public final class GradleAssertions {
         return GradleProjectAssert.assertThat(project);
     }
 
+    /**
+     * Creates an assertion for the specified {@link GradleProjectSnapshot}.
+     *
+     * @param snapshot Gradle project snapshot to test
+     * @return Project snapshot assertion
+     */
+    public static GradleProjectSnapshotAssert assertThat(final GradleProjectSnapshot snapshot) {
+        return GradleProjectSnapshotAssert.assertThat(snapshot);
+    }
+
+    /**
+     * Creates an assertion for the specified {@link PluginApplyProfile}.
+     *
+     * @param profile Plugin apply profile to test
+     * @return Plugin apply profile assertion
+     */
+    public static GradlePluginApplyProfileAssert assertThat(final PluginApplyProfile profile) {
+        return GradlePluginApplyProfileAssert.assertThat(profile);
+    }
+
     /**
      * Creates an assertion for the specified Gradle {@link Provider}.
      *
@@ -45,6 +71,40 @@ public final class GradleAssertions {
         return GradleProviderAssert.assertThat(provider);
     }
 
+    /**
+     * Creates an assertion for the specified Gradle {@link ListProperty}.
+     *
+     * @param <T> Type of the elements in the {@link ListProperty}
+     * @param listProperty Gradle list property to test
+     * @return List property assertion
+     */
+    public static <T> GradleListPropertyAssert<T> assertThat(final ListProperty<T> listProperty) {
+        return GradleListPropertyAssert.assertThat(listProperty);
+    }
+
+    /**
+     * Creates an assertion for the specified Gradle {@link SetProperty}.
+     *
+     * @param <T> Type of the elements in the {@link SetProperty}
+     * @param setProperty Gradle set property to test
+     * @return Set property assertion
+     */
+    public static <T> GradleSetPropertyAssert<T> assertThat(final SetProperty<T> setProperty) {
+        return GradleSetPropertyAssert.assertThat(setProperty);
+    }
+
+    /**
+     * Creates an assertion for the specified Gradle {@link MapProperty}.
+     *
+     * @param <K> Type of the keys in the {@link MapProperty}
+     * @param <V> Type of the values in the {@link MapProperty}
+     * @param mapProperty Gradle map property to test
+     * @return Map property assertion
+     */
+    public static <K, V> GradleMapPropertyAssert<K, V> assertThat(final MapProperty<K, V> mapProperty) {
+        return GradleMapPropertyAssert.assertThat(mapProperty);
+    }
+
     /**
      * Creates an assertion for the specified Gradle {@link FileCollection}.
      *
@@ -114,4 +174,26 @@ public final class GradleAssertions {
     public static GradleTaskAssert assertThat(final Task task) {
         return GradleTaskAssert.assertThat(task);
     }
+
+    /**
+     * Creates an assertion for the specified Gradle {@link TaskProvider}.
+     *
+     * @param <T> Type of the task provided by the {@link TaskProvider}
+     * @param taskProvider Gradle task provider to test
+     * @return Task provider assertion
+     */
+    public static <T extends Task> GradleTaskProviderAssert<T> assertThat(final TaskProvider<T> taskProvider) {
+        return GradleTaskProviderAssert.assertThat(taskProvider);
+    }
+
+    /**
+     * Creates an assertion for the specified named Gradle {@link Provider}s. The providers are evaluated
+     * concurrently and all failing providers are reported together.
+     *
+     * @param providers Gradle providers to test, keyed by a name used to identify them in failure messages
+     * @return Providers assertion
+     */
+    public static GradleProvidersAssert assertThatProviders(final Map<String, ? extends Provider<?>> providers) {
+        return GradleProvidersAssert.assertThat(providers);
+    }
 }
@@ -5,15 +5,35 @@
 
 package org.cthing.assertj.gradle;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.AbstractFileAssert;
 import org.assertj.core.api.AbstractStringAssert;
 import org.assertj.core.api.Assertions;
 import org.gradle.api.file.Directory;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.specs.Spec;
+import org.gradle.api.tasks.util.PatternSet;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 
 /**
- * AssertJ assertions for unit testing a Gradle {@link Directory}.
+ * AssertJ assertions for unit testing a Gradle {@link Directory}. The pattern assertions use Ant style patterns
+ * (e.g. {@code **}{@code /*.class}) that are matched against the paths of the files in the directory relative to the
+ * directory, using the same rules as Gradle file trees. The directory is walked using multiple threads.
  */
 public class GradleDirectoryAssert extends AbstractAssert<GradleDirectoryAssert, Directory> {
 
@@ -67,4 +87,188 @@ public class GradleDirectoryAssert extends AbstractAssert<GradleDirectoryAssert,
         isNotNull();
         return GradleFileCollectionAssert.assertThat(this.actual.getAsFileTree());
     }
+
+    /**
+     * Verifies that every file in the directory matches at least one of the specified Ant style patterns.
+     *
+     * @param antPatterns Patterns that the files in the directory must match
+     * @return This assertion
+     */
+    public GradleDirectoryAssert containsOnlyMatching(final String... antPatterns) {
+        checkArgument(antPatterns.length > 0, "At least one pattern must be specified.");
+
+        final List<String> unmatched = findFiles(antPatterns, false);
+        if (!unmatched.isEmpty()) {
+            failWithMessage("Expected directory '%s' to contain only files matching %s, but %s %s not match:%s",
+                            this.actual.getAsFile(), Arrays.toString(antPatterns),
+                            FileReports.fileCount(unmatched.size()), unmatched.size() == 1 ? "does" : "do",
+                            FileReports.list(unmatched));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the directory contains the specified number of files matching the specified Ant style pattern.
+     *
+     * @param antPattern Pattern to match
+     * @param count Expected number of matching files
+     * @return This assertion
+     */
+    public GradleDirectoryAssert hasFileCountMatching(final String antPattern, final int count) {
+        checkArgument(count >= 0, "The number of files must not be negative.");
+
+        final int numFiles = findFiles(new String[] { antPattern }, true).size();
+        if (numFiles != count) {
+            failWithMessage("Expected directory '%s' to contain %s matching '%s', but it contains %d",
+                            this.actual.getAsFile(), FileReports.fileCount(count), antPattern, numFiles);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that none of the files in the directory match any of the specified Ant style patterns.
+     *
+     * @param antPatterns Patterns that the files in the directory must not match
+     * @return This assertion
+     */
+    public GradleDirectoryAssert hasNoFilesMatching(final String... antPatterns) {
+        checkArgument(antPatterns.length > 0, "At least one pattern must be specified.");
+
+        final List<String> matched = findFiles(antPatterns, true);
+        if (!matched.isEmpty()) {
+            failWithMessage("Expected directory '%s' to contain no files matching %s, but %s %s:%s",
+                            this.actual.getAsFile(), Arrays.toString(antPatterns),
+                            FileReports.fileCount(matched.size()), matched.size() == 1 ? "matches" : "match",
+                            FileReports.list(matched));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the contents of the files in the directory match the SHA-256 fingerprints in the specified
+     * manifest. The manifest lists the hash and the path relative to the directory of every file that is expected in
+     * the directory, in the format used by the {@code sha256sum} command. The directory is walked and its files are
+     * hashed using multiple threads, and large files are read a chunk at a time rather than onto the heap in full.
+     * All missing, unexpected and changed files are reported.
+     * <p>
+     * When the system property {@code org.cthing.assertj.gradle.updateFingerprints} is set to {@code true}, the
+     * manifest is written from the current contents of the directory instead of being compared against.
+     * </p>
+     *
+     * @param manifest Fingerprint manifest
+     * @return This assertion
+     */
+    public GradleDirectoryAssert matchesFingerprint(final Path manifest) {
+        isNotNull();
+
+        final Path root = this.actual.getAsFile().toPath();
+        if (!Files.isDirectory(root)) {
+            failWithMessage("Expected directory '%s' to exist, but it does not", root);
+        }
+
+        final boolean updating = FileFingerprints.isUpdating();
+        if (!updating && !Files.isRegularFile(manifest)) {
+            failWithMessage("Fingerprint manifest '%s' does not exist. Set the system property '%s' to true to "
+                                    + "create it.", manifest, FileFingerprints.UPDATE_PROPERTY);
+        }
+
+        final Map<String, Path> files = new ConcurrentHashMap<>();
+        DirectoryWalker.walk(root, (file, attrs) -> files.put(root.relativize(file).toString()
+                                                                  .replace(File.separatorChar, '/'), file));
+        final SortedMap<String, String> fingerprints = FileFingerprints.compute(files);
+
+        if (updating) {
+            FileFingerprints.write(manifest, fingerprints);
+        } else {
+            final FileFingerprints.Differences differences =
+                    FileFingerprints.compare(fingerprints, FileFingerprints.read(manifest));
+            if (!differences.isEmpty()) {
+                failWithMessage("Expected directory '%s' to match fingerprint manifest '%s', but it does not:%s",
+                                root, manifest, differences.report());
+            }
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the directory contains the same files, with the same contents, as the specified expected
+     * directory (e.g. a golden copy of a task's output checked into the test resources). At most
+     * {@value DirectoryComparison#DEFAULT_MAX_DIFF_LINES} differing lines are reported for each changed text file.
+     *
+     * @param expectedDir Directory containing the expected files
+     * @return This assertion
+     * @see #isEquivalentTo(Path, int)
+     */
+    public GradleDirectoryAssert isEquivalentTo(final Path expectedDir) {
+        return isEquivalentTo(expectedDir, DirectoryComparison.DEFAULT_MAX_DIFF_LINES);
+    }
+
+    /**
+     * Verifies that the directory contains the same files, with the same contents, as the specified expected
+     * directory (e.g. a golden copy of a task's output checked into the test resources). Both directories are
+     * walked using multiple threads and the files are compared concurrently. Files whose sizes differ are rejected
+     * without being read, and large files are read and compared a chunk at a time rather than read onto the heap in
+     * full. All added, removed and changed files are reported. For each changed text file, the differing lines are
+     * reported by position.
+     *
+     * @param expectedDir Directory containing the expected files
+     * @param maxDiffLines Maximum number of differing lines to report for each changed text file
+     * @return This assertion
+     */
+    public GradleDirectoryAssert isEquivalentTo(final Path expectedDir, final int maxDiffLines) {
+        isNotNull();
+        checkArgument(maxDiffLines >= 0, "The maximum number of differing lines must not be negative.");
+
+        final Path root = this.actual.getAsFile().toPath();
+        if (!Files.isDirectory(root)) {
+            failWithMessage("Expected directory '%s' to exist, but it does not", root);
+        }
+        if (!Files.isDirectory(expectedDir)) {
+            failWithMessage("Expected directory '%s' to exist, but it does not", expectedDir);
+        }
+
+        final DirectoryComparison comparison = new DirectoryComparison(root, expectedDir, maxDiffLines);
+        if (!comparison.isEquivalent()) {
+            failWithMessage("Expected directory '%s' to be equivalent to directory '%s', but it is not:%s", root,
+                            expectedDir, comparison.report());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Walks the directory and finds the files that match, or do not match, the specified patterns. The patterns
+     * are compiled once into the include spec of a {@link PatternSet}, so Gradle's default excludes are not applied,
+     * and the directory is walked using multiple threads.
+     *
+     * @param antPatterns Ant style patterns to match
+     * @param matching {@code true} to find the files matching any of the patterns, {@code false} to find the files
+     *      that do not match any of the patterns
+     * @return Paths of the found files relative to the directory, using '/' as the separator, in sorted order.
+     */
+    private List<String> findFiles(final String[] antPatterns, final boolean matching) {
+        isNotNull();
+
+        final Path root = this.actual.getAsFile().toPath();
+        if (!Files.isDirectory(root)) {
+            failWithMessage("Expected directory '%s' to exist, but it does not", root);
+        }
+
+        final Spec<FileTreeElement> spec = new PatternSet().include(antPatterns).getAsIncludeSpec();
+        final Queue<String> found = new ConcurrentLinkedQueue<>();
+        DirectoryWalker.walk(root, (file, attrs) -> {
+            final FileTreeElement element = new PathFileTreeElement(root, file, attrs);
+            if (spec.isSatisfiedBy(element) == matching) {
+                found.add(element.getPath());
+            }
+        });
+
+        final List<String> paths = new ArrayList<>(found);
+        Collections.sort(paths);
+        return paths;
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.List;
+
+import org.gradle.api.provider.ListProperty;
+
+
+/**
+ * AssertJ assertions for unit testing a Gradle {@link ListProperty}.
+ *
+ * @param <ELEMENT> Type of the elements in the list
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradleListPropertyAssert<ELEMENT> extends AbstractGradleCollectionPropertyAssert<
+        GradleListPropertyAssert<ELEMENT>, ELEMENT, List<ELEMENT>, ListProperty<ELEMENT>> {
+
+    /**
+     * Constructs the assertion for the specified Gradle list property.
+     *
+     * @param listProperty  Gradle list property to test
+     */
+    public GradleListPropertyAssert(final ListProperty<ELEMENT> listProperty) {
+        super(listProperty);
+    }
+
+    /**
+     * Creates the assertion for the specified Gradle list property.
+     *
+     * @param <T> Type of the elements in the list
+     * @param listProperty  Gradle list property to test
+     * @return This assertion
+     */
+    public static <T> GradleListPropertyAssert<T> assertThat(final ListProperty<T> listProperty) {
+        return new GradleListPropertyAssert<>(listProperty);
+    }
+
+    /**
+     * Verifies that the list property contains the specified element at the specified index.
+     *
+     * @param element  Expected element
+     * @param index  Index of the element in the list
+     * @return This assertion
+     */
+    public GradleListPropertyAssert<ELEMENT> containsElementAt(final ELEMENT element, final int index) {
+        final List<ELEMENT> list = getPresentValue();
+        if (index < 0 || index >= list.size()) {
+            failWithMessage("Expecting property to contain element '%s' at index %d, but it has size %d", element,
+                            index, list.size());
+        }
+        final ELEMENT actualElement = list.get(index);
+        if (!element.equals(actualElement)) {
+            failWithMessage("Expecting property to contain element '%s' at index %d, but it contains '%s'", element,
+                            index, actualElement);
+        }
+        return this.myself;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import org.gradle.api.provider.MapProperty;
+
+
+/**
+ * AssertJ assertions for unit testing a Gradle {@link MapProperty}. Each assertion obtains the value of the property
+ * once and examines the resulting map in place, stopping as soon as the outcome is known. The map is not copied.
+ *
+ * @param <KEY> Type of the keys in the map
+ * @param <VALUE> Type of the values in the map
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradleMapPropertyAssert<KEY, VALUE> extends AbstractGradleProviderAssert<
+        GradleMapPropertyAssert<KEY, VALUE>, Map<KEY, VALUE>, MapProperty<KEY, VALUE>> {
+
+    /**
+     * Constructs the assertion for the specified Gradle map property.
+     *
+     * @param mapProperty  Gradle map property to test
+     */
+    public GradleMapPropertyAssert(final MapProperty<KEY, VALUE> mapProperty) {
+        super(mapProperty);
+    }
+
+    /**
+     * Creates the assertion for the specified Gradle map property.
+     *
+     * @param <K> Type of the keys in the map
+     * @param <V> Type of the values in the map
+     * @param mapProperty  Gradle map property to test
+     * @return This assertion
+     */
+    public static <K, V> GradleMapPropertyAssert<K, V> assertThat(final MapProperty<K, V> mapProperty) {
+        return new GradleMapPropertyAssert<>(mapProperty);
+    }
+
+    /**
+     * Verifies that the map property contains the specified key.
+     *
+     * @param key  Key expected in the map
+     * @return This assertion
+     */
+    public GradleMapPropertyAssert<KEY, VALUE> containsKey(final KEY key) {
+        if (!getPresentValue().containsKey(key)) {
+            failWithMessage("Expecting property to contain key '%s', but it does not", key);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the map property does not contain the specified key.
+     *
+     * @param key  Key not expected in the map
+     * @return This assertion
+     */
+    public GradleMapPropertyAssert<KEY, VALUE> doesNotContainKey(final KEY key) {
+        if (getPresentValue().containsKey(key)) {
+            failWithMessage("Expecting property not to contain key '%s', but it does", key);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the map property contains the specified key mapped to the specified value.
+     *
+     * @param key  Key expected in the map
+     * @param value  Value expected for the key
+     * @return This assertion
+     */
+    public GradleMapPropertyAssert<KEY, VALUE> containsEntry(final KEY key, final VALUE value) {
+        final Map<KEY, VALUE> map = getPresentValue();
+        if (!map.containsKey(key)) {
+            failWithMessage("Expecting property to contain key '%s', but it does not", key);
+        }
+        final VALUE actualValue = map.get(key);
+        if (!value.equals(actualValue)) {
+            failWithMessage("Expecting property to map key '%s' to '%s', but it maps it to '%s'", key, value,
+                            actualValue);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the map property contains the specified number of entries.
+     *
+     * @param size  Expected number of entries
+     * @return This assertion
+     */
+    public GradleMapPropertyAssert<KEY, VALUE> hasSize(final int size) {
+        final int actualSize = getPresentValue().size();
+        if (actualSize != size) {
+            failWithMessage("Expecting property to have size %d, but it has size %d", size, actualSize);
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that all entries of the map property match the specified predicate. Entries are tested in iteration
+     * order and the assertion fails at the first entry that does not match.
+     *
+     * @param predicate  Predicate all entries must match
+     * @return This assertion
+     */
+    public GradleMapPropertyAssert<KEY, VALUE> allMatch(final BiPredicate<? super KEY, ? super VALUE> predicate) {
+        for (final Map.Entry<KEY, VALUE> entry : getPresentValue().entrySet()) {
+            if (!predicate.test(entry.getKey(), entry.getValue())) {
+                failWithMessage("Expecting all entries of property to match the predicate, but entry '%s' -> '%s' "
+                                        + "does not", entry.getKey(), entry.getValue());
+            }
+        }
+        return this.myself;
+    }
+}
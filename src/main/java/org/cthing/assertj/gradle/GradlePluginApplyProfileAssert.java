@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+
+import org.assertj.core.api.AbstractAssert;
+
+
+/**
+ * AssertJ assertions for unit testing a {@link PluginApplyProfile}. The assertions place budgets on the cost of
+ * applying a plugin. When an assertion fails, the profile tree is included in the failure message to show where
+ * the time or memory was spent.
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradlePluginApplyProfileAssert
+        extends AbstractAssert<GradlePluginApplyProfileAssert, PluginApplyProfile> {
+
+    /**
+     * Constructs the assertion for the specified plugin apply profile.
+     *
+     * @param profile  Plugin apply profile to test
+     */
+    public GradlePluginApplyProfileAssert(final PluginApplyProfile profile) {
+        super(profile, GradlePluginApplyProfileAssert.class);
+    }
+
+    /**
+     * Creates the assertion for the specified plugin apply profile.
+     *
+     * @param profile  Plugin apply profile to test
+     * @return This assertion
+     */
+    public static GradlePluginApplyProfileAssert assertThat(final PluginApplyProfile profile) {
+        return new GradlePluginApplyProfileAssert(profile);
+    }
+
+    /**
+     * Verifies that the plugin, including the plugins it applies, was applied within the specified time.
+     *
+     * @param duration  Maximum time to apply the plugin
+     * @return This assertion
+     */
+    public GradlePluginApplyProfileAssert appliesWithin(final Duration duration) {
+        isNotNull();
+
+        if (this.actual.getDuration().compareTo(duration) > 0) {
+            failWithMessage("Expected plugin '%s' to apply within %d ms, but it took %d ms:%s",
+                            this.actual.getRoot().getName(), duration.toMillis(), this.actual.getDuration().toMillis(),
+                            this.actual.format());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that applying the plugin, including the plugins it applies, allocated at most the specified number
+     * of bytes.
+     *
+     * @param bytes  Maximum number of bytes allocated while applying the plugin
+     * @return This assertion
+     */
+    public GradlePluginApplyProfileAssert allocatesAtMost(final long bytes) {
+        isNotNull();
+
+        if (this.actual.getAllocatedBytes() == AllocationMeter.UNSUPPORTED) {
+            failWithMessage("Expected plugin '%s' to allocate at most %d bytes, but this JVM cannot measure "
+                                    + "thread allocations", this.actual.getRoot().getName(), bytes);
+        }
+        if (this.actual.getAllocatedBytes() > bytes) {
+            failWithMessage("Expected plugin '%s' to allocate at most %d bytes, but it allocated %d bytes:%s",
+                            this.actual.getRoot().getName(), bytes, this.actual.getAllocatedBytes(),
+                            this.actual.format());
+        }
+
+        return this.myself;
+    }
+}
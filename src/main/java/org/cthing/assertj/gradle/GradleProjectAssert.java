@@ -6,8 +6,20 @@
 package org.cthing.assertj.gradle;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Condition;
@@ -16,7 +28,11 @@ import org.assertj.core.internal.Conditions;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.internal.GeneratedSubclasses;
+import org.gradle.api.internal.project.ProjectInternal;
+import org.gradle.api.plugins.ExtensionsSchema;
 import org.gradle.api.reporting.Reporting;
+import org.jspecify.annotations.Nullable;
 
 
 /**
@@ -25,6 +41,11 @@ import org.gradle.api.reporting.Reporting;
 @SuppressWarnings("UnusedReturnValue")
 public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Project> {
 
+    private static final int TOP_RETAINED_CLASSES = 10;
+
+    @Nullable
+    private ProjectEvaluation evaluation;
+
     /**
      * Constructs the assertion for the specified Gradle project.
      *
@@ -44,6 +65,126 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
         return new GradleProjectAssert(project);
     }
 
+    /**
+     * Evaluates the project, which runs its {@code afterEvaluate} actions, so that subsequent assertions are made on
+     * the fully configured project. Projects created using the {@link org.gradle.testfixtures.ProjectBuilder} are
+     * not evaluated unless evaluation is forced. The time taken, the memory allocated, and the number of tasks and
+     * configurations realized during evaluation are measured for use by the {@link #evaluatesWithin(Duration)},
+     * {@link #allocatesLessThan(long)} and {@link #realizesAtMost(int)} assertions. For example:
+     * <pre>
+     * assertThat(project).evaluated()
+     *                    .evaluatesWithin(Duration.ofMillis(100))
+     *                    .allocatesLessThan(10_000_000)
+     *                    .hasTask("myTask");
+     * </pre>
+     * If the project has already been evaluated, evaluation is not repeated and the measurements are negligible.
+     *
+     * @return This assertion
+     */
+    public GradleProjectAssert evaluated() {
+        isNotNull();
+        this.evaluation = ProjectEvaluation.evaluate(this.actual);
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the project was evaluated within the specified time. The project must have been evaluated
+     * using {@link #evaluated()}.
+     *
+     * @param duration  Maximum time to evaluate the project
+     * @return This assertion
+     */
+    public GradleProjectAssert evaluatesWithin(final Duration duration) {
+        final ProjectEvaluation measured = requireEvaluation();
+        if (measured.getDuration().compareTo(duration) > 0) {
+            failWithMessage("Expected project '%s' to evaluate within %d ms, but it took %d ms",
+                            this.actual.getName(), duration.toMillis(), measured.getDuration().toMillis());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that evaluating the project allocated less than the specified number of bytes. The project must
+     * have been evaluated using {@link #evaluated()}.
+     *
+     * @param bytes  Number of bytes that evaluating the project must allocate less than
+     * @return This assertion
+     */
+    public GradleProjectAssert allocatesLessThan(final long bytes) {
+        final ProjectEvaluation measured = requireEvaluation();
+        if (measured.getAllocatedBytes() == AllocationMeter.UNSUPPORTED) {
+            failWithMessage("Expected project '%s' to allocate less than %d bytes during evaluation, but this JVM "
+                                    + "cannot measure thread allocations", this.actual.getName(), bytes);
+        }
+        if (measured.getAllocatedBytes() >= bytes) {
+            failWithMessage("Expected project '%s' to allocate less than %d bytes during evaluation, but it "
+                                    + "allocated %d bytes", this.actual.getName(), bytes,
+                            measured.getAllocatedBytes());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that at most the specified number of tasks and configurations were realized while evaluating the
+     * project. The project must have been evaluated using {@link #evaluated()}.
+     *
+     * @param count  Maximum number of domain objects realized during evaluation
+     * @return This assertion
+     */
+    public GradleProjectAssert realizesAtMost(final int count) {
+        final ProjectEvaluation measured = requireEvaluation();
+        if (measured.getRealizedDomainObjects() > count) {
+            failWithMessage("Expected project '%s' to realize at most %d domain objects during evaluation, but it "
+                                    + "realized %d", this.actual.getName(), count,
+                            measured.getRealizedDomainObjects());
+        }
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the specified action, typically applying a plugin to the project, increases the live heap by
+     * at most the specified number of bytes. Garbage is collected and the live heap is measured before and after
+     * running the action. On HotSpot JVMs, class histograms of the live heap are taken so that the classes whose
+     * instances grew the most are reported on failure. For accurate results, use a fresh project and avoid running
+     * other tests concurrently. For example:
+     * <pre>
+     * final Project project = ProjectBuilder.builder().build();
+     * assertThat(project).retainedHeapDeltaAtMost(2_000_000,
+     *                                             () -&gt; project.getPluginManager().apply("org.example.my-plugin"));
+     * </pre>
+     *
+     * @param bytes  Maximum number of bytes the action may add to the live heap
+     * @param applyAction  Action whose retained memory is to be measured
+     * @return This assertion
+     */
+    public GradleProjectAssert retainedHeapDeltaAtMost(final long bytes, final Runnable applyAction) {
+        isNotNull();
+
+        final HeapMeter.Snapshot before = HeapMeter.captureBaseline();
+        applyAction.run();
+        final HeapMeter.Snapshot after = HeapMeter.capture();
+
+        final long retained = after.totalBytes() - before.totalBytes();
+        if (retained > bytes) {
+            failWithMessage("Expected project '%s' to retain at most %d additional bytes, but it retained %d bytes. "
+                                    + "Top retained classes:%s", this.actual.getName(), bytes, retained,
+                            after.reportGrowth(before, TOP_RETAINED_CLASSES));
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Captures an immutable {@link GradleProjectSnapshot} of the project and returns an assertion on it. The
+     * snapshot assertions use hash lookups on the captured model and can be made from multiple threads.
+     *
+     * @return Project snapshot assertion
+     */
+    public GradleProjectSnapshotAssert snapshot() {
+        isNotNull();
+        return GradleProjectSnapshotAssert.assertThat(GradleProjectSnapshot.capture(this.actual));
+    }
+
     /**
      * Verifies that the Gradle project contains the specified extensions.
      *
@@ -113,6 +254,37 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
         return this.myself;
     }
 
+    /**
+     * Verifies that the Gradle project contains the specified extension and that the extension exposes its
+     * configurable state using lazy types (e.g. {@code Property}, {@code Provider}, {@code ConfigurableFileCollection})
+     * rather than mutable eager state. The extension fails the audit if its type has public setters whose parameters
+     * are not lazy types, public getters returning mutable collections, maps or arrays, or public non-final fields.
+     * Eager extension state typically forces plugins to read it in {@code afterEvaluate}. The public type with which
+     * the extension was registered is audited, and the reflective audit of each type is cached.
+     *
+     * @param extensionName Name of the project extension to check
+     * @return This assertion
+     */
+    public GradleProjectAssert hasLazyExtension(final String extensionName) {
+        isNotNull();
+
+        final Object extension = this.actual.getExtensions().findByName(extensionName);
+        if (extension == null) {
+            failWithMessage("Project '%s' does not contain the extension '%s'", this.actual.getName(), extensionName);
+        } else {
+            final Class<?> type = extensionType(extensionName, extension);
+            final Set<String> eagerMembers = LazyTypeAudit.findEagerMembers(type);
+            if (!eagerMembers.isEmpty()) {
+                final StringBuilder buffer = new StringBuilder();
+                eagerMembers.forEach(member -> buffer.append("\n  ").append(member));
+                failWithMessage("Expected extension '%s' of type '%s' to expose only lazy state, but it exposes "
+                                        + "eager state:%s", extensionName, type.getName(), buffer.toString());
+            }
+        }
+
+        return this.myself;
+    }
+
     /**
      * Verifies that the Gradle project contains an extension of the specified type.
      *
@@ -278,6 +450,21 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
         return this.myself;
     }
 
+    /**
+     * Applies the specified plugin to the project while profiling its application, and returns an assertion on the
+     * resulting {@link PluginApplyProfile}. For example:
+     * <pre>
+     * assertThat(project).profilePluginApply("org.example.my-plugin").appliesWithin(Duration.ofMillis(200));
+     * </pre>
+     *
+     * @param pluginId  Identifier of the plugin to apply
+     * @return Plugin apply profile assertion
+     */
+    public GradlePluginApplyProfileAssert profilePluginApply(final String pluginId) {
+        isNotNull();
+        return GradlePluginApplyProfileAssert.assertThat(PluginApplyProfile.profile(this.actual, pluginId));
+    }
+
     /**
      * Verifies that the Gradle project contains the specified plugins.
      *
@@ -327,7 +514,8 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
     }
 
     /**
-     * Verifies that the Gradle project contains the specified tasks.
+     * Verifies that the Gradle project contains the specified tasks. The tasks are looked up by name and are not
+     * realized.
      *
      * @param taskName Name of the first task to check
      * @param taskNames Names of additional tasks to check
@@ -337,7 +525,7 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
         isNotNull();
 
         final Consumer<String> testTask = name -> {
-            if (this.actual.getTasks().findByName(name) == null) {
+            if (!this.actual.getTasks().getNames().contains(name)) {
                 failWithMessage("Project '%s' does not contain the task '%s'", this.actual.getName(), name);
             }
         };
@@ -351,7 +539,8 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
     }
 
     /**
-     * Verifies that the Gradle project does not contain the specified tasks.
+     * Verifies that the Gradle project does not contain the specified tasks. The tasks are looked up by name and are
+     * not realized.
      *
      * @param taskName Name of the first task to check
      * @param taskNames Names of additional tasks to check
@@ -361,7 +550,7 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
         isNotNull();
 
         final Consumer<String> testTask = name -> {
-            if (this.actual.getTasks().findByName(name) != null) {
+            if (this.actual.getTasks().getNames().contains(name)) {
                 failWithMessage("Project '%s' should not contain the task '%s'", this.actual.getName(), name);
             }
         };
@@ -375,19 +564,82 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
     }
 
     /**
-     * Verifies that the Gradle project contains the specified task of the specified type.
+     * Verifies that the Gradle project contains at least one task whose name matches the specified pattern. The
+     * entire task name must match the pattern. The task names are examined without realizing any tasks.
+     *
+     * @param pattern Regular expression to match against the task names
+     * @return This assertion
+     */
+    public GradleProjectAssert hasTasksMatching(final Pattern pattern) {
+        isNotNull();
+
+        final Matcher matcher = pattern.matcher("");
+        if (this.actual.getTasks().getNames().stream().noneMatch(name -> matcher.reset(name).matches())) {
+            failWithMessage("Project '%s' does not contain any tasks matching '%s'", this.actual.getName(),
+                            pattern.pattern());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project does not contain any tasks whose names match the specified pattern. The
+     * entire task name must match the pattern. The task names are examined without realizing any tasks.
+     *
+     * @param pattern Regular expression to match against the task names
+     * @return This assertion
+     */
+    public GradleProjectAssert doesNotHaveTasksMatching(final Pattern pattern) {
+        isNotNull();
+
+        final Matcher matcher = pattern.matcher("");
+        final List<String> matches = this.actual.getTasks()
+                                                .getNames()
+                                                .stream()
+                                                .filter(name -> matcher.reset(name).matches())
+                                                .toList();
+        if (!matches.isEmpty()) {
+            failWithMessage("Project '%s' should not contain tasks matching '%s', but contains %s",
+                            this.actual.getName(), pattern.pattern(), matches);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contains the specified number of tasks. Both registered and realized tasks
+     * are counted. Tasks are not realized.
+     *
+     * @param count Expected number of tasks
+     * @return This assertion
+     */
+    public GradleProjectAssert hasTaskCount(final int count) {
+        isNotNull();
+
+        final int numTasks = this.actual.getTasks().getNames().size();
+        if (numTasks != count) {
+            failWithMessage("Expected project '%s' to contain %d tasks, but contains %d", this.actual.getName(), count,
+                            numTasks);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contains the specified task of the specified type. The type with which
+     * the task was registered is checked so the task is not realized.
      *
      * @param taskName Name of the tasks to check
      * @param type Expected type of the task
      * @return This assertion
      */
     public GradleProjectAssert hasTaskWithType(final String taskName, final Class<?> type) {
-        final Object task = this.actual.getTasks().findByName(taskName);
-        if (task == null) {
-            failWithMessage("Project '%s' does not contain the task '%s'", this.actual.getName(), taskName);
-        } else if (!type.isInstance(task)) {
+        hasTask(taskName);
+
+        final Class<?> taskType = GradleTaskProviderAssert.registeredType(this.actual.getTasks().named(taskName));
+        if (!type.isAssignableFrom(taskType)) {
             failWithMessage("Expected task '%s' to be an instance of '%s' but is '%s'", taskName,
-                            type.getName(), task.getClass().getName());
+                            type.getName(), taskType.getName());
         }
 
         return this.myself;
@@ -395,21 +647,34 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
 
     /**
      * Verifies that the Gradle project contains the specified task which implements the {@link Reporting} interface.
+     * The type with which the task was registered is checked so the task is not realized.
      *
      * @param taskName Name of the tasks to check
      * @return This assertion
      */
     public GradleProjectAssert hasTaskWithReports(final String taskName) {
-        final Object task = this.actual.getTasks().findByName(taskName);
-        if (task == null) {
-            failWithMessage("Project '%s' does not contain the task '%s'", this.actual.getName(), taskName);
-        } else if (!(task instanceof Reporting)) {
+        hasTask(taskName);
+
+        final Class<?> taskType = GradleTaskProviderAssert.registeredType(this.actual.getTasks().named(taskName));
+        if (!Reporting.class.isAssignableFrom(taskType)) {
             failWithMessage("Expected task '%s' to implement 'Reporting' but does not", taskName);
         }
 
         return this.myself;
     }
 
+    /**
+     * Verifies that the Gradle project contains a task with the specified name and returns a
+     * {@link GradleTaskProviderAssert} for chaining assertions on the task's provider. The task is not realized.
+     *
+     * @param taskName Name of the task to check
+     * @return Task provider assertion
+     */
+    public GradleTaskProviderAssert<Task> getTaskProvider(final String taskName) {
+        hasTask(taskName);
+        return GradleTaskProviderAssert.assertThat(this.actual.getTasks().named(taskName));
+    }
+
     /**
      * Verifies that the Gradle project contains a task with the specified name and provides it to
      * the given {@link Consumer} for further assertions.
@@ -478,6 +743,199 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
 
     }
 
+    /**
+     * Verifies that since the {@link TaskRealizationRecorder} was installed on the project, only the specified
+     * tasks have been realized. Tasks that are registered but not realized are ignored.
+     *
+     * @param taskName Name of the first task that is allowed to be realized
+     * @param taskNames Names of additional tasks that are allowed to be realized
+     * @return This assertion
+     */
+    public GradleProjectAssert realizedOnlyTasks(final String taskName, final String... taskNames) {
+        final Set<String> allowed = new HashSet<>();
+        allowed.add(taskName);
+        allowed.addAll(Arrays.asList(taskNames));
+        checkRealizedTasks(allowed);
+        return this.myself;
+    }
+
+    /**
+     * Verifies that no tasks have been realized since the {@link TaskRealizationRecorder} was installed on the
+     * project. Plugins should register tasks lazily so that they are only realized if they are needed.
+     *
+     * @return This assertion
+     */
+    public GradleProjectAssert hasNoEagerlyRealizedTasks() {
+        checkRealizedTasks(Set.of());
+        return this.myself;
+    }
+
+    private void checkRealizedTasks(final Set<String> allowed) {
+        isNotNull();
+
+        final TaskRealizationRecorder recorder = TaskRealizationRecorder.find(this.actual);
+        if (recorder == null) {
+            failWithMessage("Project '%s' does not have a TaskRealizationRecorder installed", this.actual.getName());
+        } else {
+            final Set<String> unexpected = new TreeSet<>(recorder.getRealizedTaskNames());
+            unexpected.removeAll(allowed);
+            if (!unexpected.isEmpty()) {
+                failWithMessage("Project '%s' realized %d of %d registered tasks, %d of which were not expected:%s",
+                                this.actual.getName(), recorder.getRealizedTaskNames().size(),
+                                this.actual.getTasks().getNames().size(), unexpected.size(),
+                                recorder.report(unexpected));
+            }
+        }
+    }
+
+    /**
+     * Verifies that all subprojects of the Gradle project, at any depth, satisfy the specified requirements.
+     * Subprojects that have not been evaluated are evaluated first. The requirements are then checked for each
+     * subproject in path order on the calling thread, because Gradle projects are mutable and must be used on the
+     * thread that owns them. All subprojects are checked, and the failures and exceptions are reported together in
+     * a single assertion error. For example:
+     * <pre>
+     * assertThat(rootProject).allSubprojects(subproject -&gt; subproject.hasPlugin("java").hasTask("jar"));
+     * </pre>
+     * The assertion succeeds if the project has no subprojects. To check the subprojects of a large project tree
+     * concurrently, use {@link #allSubprojectSnapshots(Consumer)}.
+     *
+     * @param requirements Assertions to make on each subproject
+     * @return This assertion
+     */
+    public GradleProjectAssert allSubprojects(final Consumer<? super GradleProjectAssert> requirements) {
+        return subprojectsMatching(subproject -> true, requirements);
+    }
+
+    /**
+     * Verifies that the subprojects of the Gradle project, at any depth, that match the specified predicate satisfy
+     * the specified requirements. Matching subprojects that have not been evaluated are evaluated first. The
+     * requirements are then checked for each matching subproject in path order on the calling thread. All matching
+     * subprojects are checked, and the failures and exceptions are reported together in a single assertion error.
+     * The assertion succeeds if no subprojects match the predicate. To check the subprojects concurrently, use
+     * {@link #subprojectSnapshotsMatching(Predicate, Consumer)}.
+     *
+     * @param predicate Selects the subprojects to check
+     * @param requirements Assertions to make on each selected subproject
+     * @return This assertion
+     */
+    public GradleProjectAssert subprojectsMatching(final Predicate<? super Project> predicate,
+                                                   final Consumer<? super GradleProjectAssert> requirements) {
+        isNotNull();
+
+        final List<Project> subprojects = evaluateSubprojects(predicate);
+        final Map<String, String> failures = new TreeMap<>();
+        for (final Project subproject : subprojects) {
+            checkSubproject(subproject.getPath(), () -> requirements.accept(new GradleProjectAssert(subproject)),
+                            failures);
+        }
+        reportSubprojectFailures(failures, subprojects.size());
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that snapshots of all subprojects of the Gradle project, at any depth, satisfy the specified
+     * requirements. Subprojects that have not been evaluated are evaluated first, and a {@link GradleProjectSnapshot}
+     * is captured of each subproject. Evaluation and capture take place on the calling thread, because Gradle
+     * projects must be used on the thread that owns them. The requirements are then checked concurrently on the
+     * immutable snapshots using the common fork join pool. All subprojects are checked, and the failures and
+     * exceptions are reported together, in path order, in a single assertion error. For example:
+     * <pre>
+     * assertThat(rootProject).allSubprojectSnapshots(subproject -&gt; subproject.hasPlugin("java").hasTask("jar"));
+     * </pre>
+     * The assertion succeeds if the project has no subprojects.
+     *
+     * @param requirements Assertions to make on the snapshot of each subproject. The requirements are called from
+     *      multiple threads at the same time.
+     * @return This assertion
+     */
+    public GradleProjectAssert allSubprojectSnapshots(
+            final Consumer<? super GradleProjectSnapshotAssert> requirements) {
+        return subprojectSnapshotsMatching(subproject -> true, requirements);
+    }
+
+    /**
+     * Verifies that snapshots of the subprojects of the Gradle project, at any depth, that match the specified
+     * predicate satisfy the specified requirements. Matching subprojects that have not been evaluated are evaluated
+     * first, and a {@link GradleProjectSnapshot} is captured of each matching subproject on the calling thread. The
+     * requirements are then checked concurrently on the snapshots. All matching subprojects are checked, and the
+     * failures and exceptions are reported together, in path order, in a single assertion error. The assertion
+     * succeeds if no subprojects match the predicate.
+     *
+     * @param predicate Selects the subprojects to check. The predicate is called on the calling thread.
+     * @param requirements Assertions to make on the snapshot of each selected subproject. The requirements are
+     *      called from multiple threads at the same time.
+     * @return This assertion
+     */
+    public GradleProjectAssert subprojectSnapshotsMatching(
+            final Predicate<? super Project> predicate,
+            final Consumer<? super GradleProjectSnapshotAssert> requirements) {
+        isNotNull();
+
+        final List<GradleProjectSnapshot> snapshots =
+                evaluateSubprojects(predicate).stream().map(GradleProjectSnapshot::capture).toList();
+        final Map<String, String> failures = new ConcurrentSkipListMap<>();
+        snapshots.parallelStream().forEach(snapshot -> {
+            final GradleProjectSnapshotAssert snapshotAssert = new GradleProjectSnapshotAssert(snapshot);
+            checkSubproject(snapshot.getPath(), () -> requirements.accept(snapshotAssert), failures);
+        });
+        reportSubprojectFailures(failures, snapshots.size());
+
+        return this.myself;
+    }
+
+    /**
+     * Obtains the subprojects, at any depth, that match the specified predicate in path order and evaluates those
+     * that have not been evaluated.
+     *
+     * @param predicate Selects the subprojects
+     * @return Selected subprojects in path order.
+     */
+    private List<Project> evaluateSubprojects(final Predicate<? super Project> predicate) {
+        final List<Project> subprojects = this.actual.getSubprojects()
+                                                     .stream()
+                                                     .filter(predicate)
+                                                     .sorted(Comparator.comparing(Project::getPath))
+                                                     .toList();
+
+        for (final Project subproject : subprojects) {
+            if (!subproject.getState().getExecuted() && subproject instanceof ProjectInternal projectInternal) {
+                projectInternal.evaluate();
+            }
+        }
+
+        return subprojects;
+    }
+
+    /**
+     * Checks a subproject and records its failure. A failure in one subproject must not prevent the remaining
+     * subprojects from being checked, so assertion errors and exceptions are recorded rather than thrown. Other
+     * errors (e.g. {@link OutOfMemoryError}) are not caught.
+     *
+     * @param path Path of the subproject
+     * @param check Checks the subproject
+     * @param failures Failure messages keyed by subproject path
+     */
+    private static void checkSubproject(final String path, final Runnable check, final Map<String, String> failures) {
+        try {
+            check.run();
+        } catch (final AssertionError ex) {
+            failures.put(path, String.valueOf(ex.getMessage()));
+        } catch (final Exception ex) {
+            failures.put(path, "threw " + ex);
+        }
+    }
+
+    private void reportSubprojectFailures(final Map<String, String> failures, final int count) {
+        if (!failures.isEmpty()) {
+            final StringBuilder buffer = new StringBuilder();
+            failures.forEach((path, message) -> buffer.append("\n  ").append(path).append(": ").append(message));
+            failWithMessage("%d of %d subprojects of project '%s' failed:%s", failures.size(), count,
+                            this.actual.getName(), buffer.toString());
+        }
+    }
+
     /**
      * Verifies that the Gradle project contains a file with the specified pathname.
      *
@@ -600,4 +1058,31 @@ public class GradleProjectAssert extends AbstractAssert<GradleProjectAssert, Pro
 
         return this.myself;
     }
+
+    /**
+     * Obtains the public type with which the specified extension was registered.
+     *
+     * @param extensionName Name of the extension
+     * @param extension The extension
+     * @return Public type of the extension, or the type of the extension instance if its public type is not known.
+     */
+    private Class<?> extensionType(final String extensionName, final Object extension) {
+        for (final ExtensionsSchema.ExtensionSchema schema
+                : this.actual.getExtensions().getExtensionsSchema().getElements()) {
+            if (extensionName.equals(schema.getName())) {
+                return schema.getPublicType().getConcreteClass();
+            }
+        }
+        return GeneratedSubclasses.unpackType(extension);
+    }
+
+    private ProjectEvaluation requireEvaluation() {
+        isNotNull();
+
+        if (this.evaluation == null) {
+            failWithMessage("Project '%s' evaluation has not been measured. Call evaluated() first.",
+                            this.actual.getName());
+        }
+        return this.evaluation;
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.gradle.api.NamedDomainObjectCollectionSchema.NamedDomainObjectSchema;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.internal.GeneratedSubclasses;
+import org.gradle.api.internal.plugins.PluginManagerInternal;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Immutable model of a Gradle {@link Project} captured at a point in time. The snapshot indexes the project's
+ * plugin identifiers, extension names and types, configuration names and roles, and task names and types so that
+ * lookups do not query the live project. Because the snapshot is immutable, it can be safely shared between threads
+ * (e.g. to make assertions in parallel tests). Use {@link GradleProjectSnapshotAssert} to make assertions on the
+ * snapshot.
+ * <p>
+ * Task and extension types are the public types with which they were registered, so capturing a snapshot does not
+ * realize any tasks. Configurations are realized to determine their roles. Plugins are indexed by the identifiers
+ * Gradle associates with the applied plugin classes. Core Gradle plugins are also indexed by their unqualified
+ * identifiers (e.g. {@code java} as well as {@code org.gradle.java}).
+ * </p>
+ */
+public final class GradleProjectSnapshot {
+
+    /**
+     * Roles a configuration can play.
+     */
+    public enum ConfigurationRole {
+        /** Configuration can be consumed by other projects. */
+        CONSUMABLE,
+
+        /** Configuration can be resolved. */
+        RESOLVABLE,
+
+        /** Dependencies can be declared on the configuration. */
+        DECLARABLE
+    }
+
+    private static final String CORE_PLUGIN_NAMESPACE = "org.gradle";
+
+    private final String name;
+    private final String path;
+    private final Set<String> pluginIds;
+    private final Map<String, Class<?>> extensionTypes;
+    private final Map<String, Set<ConfigurationRole>> configurationRoles;
+    private final Map<String, Class<?>> taskTypes;
+
+    private GradleProjectSnapshot(final Project project) {
+        this.name = project.getName();
+        this.path = project.getPath();
+        this.pluginIds = Set.copyOf(capturePluginIds(project));
+        this.extensionTypes = Map.copyOf(captureTypes(project.getExtensions().getExtensionsSchema().getElements()));
+        this.configurationRoles = Map.copyOf(captureConfigurationRoles(project));
+        this.taskTypes = Map.copyOf(captureTypes(project.getTasks().getCollectionSchema().getElements()));
+    }
+
+    /**
+     * Captures a snapshot of the specified project.
+     *
+     * @param project Project whose snapshot is to be captured
+     * @return Snapshot of the project.
+     */
+    public static GradleProjectSnapshot capture(final Project project) {
+        return new GradleProjectSnapshot(project);
+    }
+
+    /**
+     * Obtains the name of the project.
+     *
+     * @return Name of the project.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Obtains the path of the project.
+     *
+     * @return Path of the project.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Obtains the identifiers of the plugins applied to the project.
+     *
+     * @return Plugin identifiers.
+     */
+    public Set<String> getPluginIds() {
+        return this.pluginIds;
+    }
+
+    /**
+     * Obtains the names of the project's extensions and their public types.
+     *
+     * @return Extension names and their public types.
+     */
+    public Map<String, Class<?>> getExtensionTypes() {
+        return this.extensionTypes;
+    }
+
+    /**
+     * Obtains the names of the project's configurations and their roles.
+     *
+     * @return Configuration names and their roles.
+     */
+    public Map<String, Set<ConfigurationRole>> getConfigurationRoles() {
+        return this.configurationRoles;
+    }
+
+    /**
+     * Obtains the names of the project's tasks and the types with which they were registered.
+     *
+     * @return Task names and their types.
+     */
+    public Map<String, Class<?>> getTaskTypes() {
+        return this.taskTypes;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final GradleProjectSnapshot other = (GradleProjectSnapshot)obj;
+        return this.name.equals(other.name)
+                && this.path.equals(other.path)
+                && this.pluginIds.equals(other.pluginIds)
+                && this.extensionTypes.equals(other.extensionTypes)
+                && this.configurationRoles.equals(other.configurationRoles)
+                && this.taskTypes.equals(other.taskTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.path, this.pluginIds, this.extensionTypes, this.configurationRoles,
+                            this.taskTypes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> capturePluginIds(final Project project) {
+        final Set<String> ids = new HashSet<>();
+        if (project.getPluginManager() instanceof PluginManagerInternal pluginManager) {
+            for (final Plugin<?> plugin : project.getPlugins()) {
+                final Class<? extends Plugin<?>> pluginClass =
+                        (Class<? extends Plugin<?>>)GeneratedSubclasses.unpackType(plugin);
+                pluginManager.findPluginIdForClass(pluginClass).ifPresent(pluginId -> {
+                    ids.add(pluginId.getId());
+                    if (CORE_PLUGIN_NAMESPACE.equals(pluginId.getNamespace())) {
+                        ids.add(pluginId.getName());
+                    }
+                });
+            }
+        }
+        return ids;
+    }
+
+    private static Map<String, Class<?>> captureTypes(final Iterable<? extends NamedDomainObjectSchema> schemas) {
+        final Map<String, Class<?>> types = new HashMap<>();
+        for (final NamedDomainObjectSchema schema : schemas) {
+            types.put(schema.getName(), schema.getPublicType().getConcreteClass());
+        }
+        return types;
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static Map<String, Set<ConfigurationRole>> captureConfigurationRoles(final Project project) {
+        final Map<String, Set<ConfigurationRole>> roles = new HashMap<>();
+        for (final Configuration configuration : project.getConfigurations()) {
+            final Set<ConfigurationRole> configurationRoles = EnumSet.noneOf(ConfigurationRole.class);
+            if (configuration.isCanBeConsumed()) {
+                configurationRoles.add(ConfigurationRole.CONSUMABLE);
+            }
+            if (configuration.isCanBeResolved()) {
+                configurationRoles.add(ConfigurationRole.RESOLVABLE);
+            }
+            if (configuration.isCanBeDeclared()) {
+                configurationRoles.add(ConfigurationRole.DECLARABLE);
+            }
+            roles.put(configuration.getName(), Set.copyOf(configurationRoles));
+        }
+        return roles;
+    }
+}
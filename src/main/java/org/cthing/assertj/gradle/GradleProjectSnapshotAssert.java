@@ -0,0 +1,306 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.AbstractAssert;
+import org.cthing.assertj.gradle.GradleProjectSnapshot.ConfigurationRole;
+
+
+/**
+ * AssertJ assertions for unit testing a {@link GradleProjectSnapshot}. The assertions mirror those provided by
+ * {@link GradleProjectAssert} but are made against the immutable snapshot rather than the live project. Each lookup
+ * is a hash lookup and the snapshot can be shared between threads.
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradleProjectSnapshotAssert extends AbstractAssert<GradleProjectSnapshotAssert, GradleProjectSnapshot> {
+
+    /**
+     * Constructs the assertion for the specified Gradle project snapshot.
+     *
+     * @param snapshot  Gradle project snapshot to test
+     */
+    public GradleProjectSnapshotAssert(final GradleProjectSnapshot snapshot) {
+        super(snapshot, GradleProjectSnapshotAssert.class);
+    }
+
+    /**
+     * Creates the assertion for the specified Gradle project snapshot.
+     *
+     * @param snapshot  Gradle project snapshot to test
+     * @return This assertion
+     */
+    public static GradleProjectSnapshotAssert assertThat(final GradleProjectSnapshot snapshot) {
+        return new GradleProjectSnapshotAssert(snapshot);
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified extensions.
+     *
+     * @param extensionName  Name of first project extension to check
+     * @param extensionNames  Names of additional project extensions to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasExtension(final String extensionName, final String... extensionNames) {
+        isNotNull();
+
+        final Consumer<String> testExtension = name -> {
+            if (!this.actual.getExtensionTypes().containsKey(name)) {
+                failWithMessage("Project '%s' does not contain the extension '%s'", this.actual.getName(), name);
+            }
+        };
+
+        testExtension.accept(extensionName);
+        if (extensionNames.length > 0) {
+            Arrays.stream(extensionNames).forEach(testExtension);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project did not contain the specified extensions.
+     *
+     * @param extensionName  Name of first project extension to check
+     * @param extensionNames  Names of additional project extensions to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert doesNotHaveExtension(final String extensionName,
+                                                            final String... extensionNames) {
+        isNotNull();
+
+        final Consumer<String> testExtension = name -> {
+            if (this.actual.getExtensionTypes().containsKey(name)) {
+                failWithMessage("Project '%s' should not contain the extension '%s'", this.actual.getName(), name);
+            }
+        };
+
+        testExtension.accept(extensionName);
+        if (extensionNames.length > 0) {
+            Arrays.stream(extensionNames).forEach(testExtension);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified extension with a public type that is the specified
+     * type or a subtype of it.
+     *
+     * @param extensionName  Name of the project extension to check
+     * @param type Expected type of the extension
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasExtensionWithType(final String extensionName, final Class<?> type) {
+        isNotNull();
+
+        final Class<?> extensionType = this.actual.getExtensionTypes().get(extensionName);
+        if (extensionType == null) {
+            failWithMessage("Project '%s' does not contain the extension '%s'", this.actual.getName(), extensionName);
+        } else if (!type.isAssignableFrom(extensionType)) {
+            failWithMessage("Expected extension '%s' to be an instance of '%s' but is '%s'", extensionName,
+                            type.getName(), extensionType.getName());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified configurations.
+     *
+     * @param configurationName Name of the first project configuration to check
+     * @param configurationNames Names of additional project configurations to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasConfiguration(final String configurationName,
+                                                        final String... configurationNames) {
+        isNotNull();
+
+        final Consumer<String> testConfiguration = name -> {
+            if (!this.actual.getConfigurationRoles().containsKey(name)) {
+                failWithMessage("Project '%s' does not contain the configuration '%s'", this.actual.getName(), name);
+            }
+        };
+
+        testConfiguration.accept(configurationName);
+        if (configurationNames.length > 0) {
+            Arrays.stream(configurationNames).forEach(testConfiguration);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project did not contain the specified configurations.
+     *
+     * @param configurationName Name of the first project configuration to check
+     * @param configurationNames Names of additional project configurations to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert doesNotHaveConfiguration(final String configurationName,
+                                                                final String... configurationNames) {
+        isNotNull();
+
+        final Consumer<String> testConfiguration = name -> {
+            if (this.actual.getConfigurationRoles().containsKey(name)) {
+                failWithMessage("Project '%s' should not contain the configuration '%s'", this.actual.getName(),
+                                name);
+            }
+        };
+
+        testConfiguration.accept(configurationName);
+        if (configurationNames.length > 0) {
+            Arrays.stream(configurationNames).forEach(testConfiguration);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified configuration and that the configuration could
+     * play the specified role.
+     *
+     * @param configurationName Name of the project configuration to check
+     * @param role Role the configuration is expected to play
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasConfigurationWithRole(final String configurationName,
+                                                                final ConfigurationRole role) {
+        isNotNull();
+
+        final Set<ConfigurationRole> roles = this.actual.getConfigurationRoles().get(configurationName);
+        if (roles == null) {
+            failWithMessage("Project '%s' does not contain the configuration '%s'", this.actual.getName(),
+                            configurationName);
+        } else if (!roles.contains(role)) {
+            failWithMessage("Expected configuration '%s' to have role '%s', but its roles are %s", configurationName,
+                            role, roles);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified plugins.
+     *
+     * @param pluginId  Identifier of first plugin to check
+     * @param pluginIds  Identifiers of additional plugins to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasPlugin(final String pluginId, final String... pluginIds) {
+        isNotNull();
+
+        final Consumer<String> testPlugin = id -> {
+            if (!this.actual.getPluginIds().contains(id)) {
+                failWithMessage("Project '%s' does not contain the plugin '%s'", this.actual.getName(), id);
+            }
+        };
+
+        testPlugin.accept(pluginId);
+        if (pluginIds.length > 0) {
+            Arrays.stream(pluginIds).forEach(testPlugin);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project did not contain the specified plugins.
+     *
+     * @param pluginId  Identifier of first plugin to check
+     * @param pluginIds  Identifiers of additional plugins to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert doesNotHavePlugin(final String pluginId, final String... pluginIds) {
+        isNotNull();
+
+        final Consumer<String> testPlugin = id -> {
+            if (this.actual.getPluginIds().contains(id)) {
+                failWithMessage("Project '%s' should not contain the plugin '%s'", this.actual.getName(), id);
+            }
+        };
+
+        testPlugin.accept(pluginId);
+        if (pluginIds.length > 0) {
+            Arrays.stream(pluginIds).forEach(testPlugin);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified tasks.
+     *
+     * @param taskName Name of the first task to check
+     * @param taskNames Names of additional tasks to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasTask(final String taskName, final String... taskNames) {
+        isNotNull();
+
+        final Consumer<String> testTask = name -> {
+            if (!this.actual.getTaskTypes().containsKey(name)) {
+                failWithMessage("Project '%s' does not contain the task '%s'", this.actual.getName(), name);
+            }
+        };
+
+        testTask.accept(taskName);
+        if (taskNames.length > 0) {
+            Arrays.stream(taskNames).forEach(testTask);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project did not contain the specified tasks.
+     *
+     * @param taskName Name of the first task to check
+     * @param taskNames Names of additional tasks to check
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert doesNotHaveTask(final String taskName, final String... taskNames) {
+        isNotNull();
+
+        final Consumer<String> testTask = name -> {
+            if (this.actual.getTaskTypes().containsKey(name)) {
+                failWithMessage("Project '%s' should not contain the task '%s'", this.actual.getName(), name);
+            }
+        };
+
+        testTask.accept(taskName);
+        if (taskNames.length > 0) {
+            Arrays.stream(taskNames).forEach(testTask);
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the Gradle project contained the specified task registered with the specified type or a
+     * subtype of it.
+     *
+     * @param taskName Name of the task to check
+     * @param type Expected type of the task
+     * @return This assertion
+     */
+    public GradleProjectSnapshotAssert hasTaskWithType(final String taskName, final Class<?> type) {
+        isNotNull();
+
+        final Class<?> taskType = this.actual.getTaskTypes().get(taskName);
+        if (taskType == null) {
+            failWithMessage("Project '%s' does not contain the task '%s'", this.actual.getName(), taskName);
+        } else if (!type.isAssignableFrom(taskType)) {
+            failWithMessage("Expected task '%s' to be an instance of '%s' but is '%s'", taskName,
+                            type.getName(), taskType.getName());
+        }
+
+        return this.myself;
+    }
+}
@@ -5,9 +5,7 @@
 
 package org.cthing.assertj.gradle;
 
-import org.gradle.api.Transformer;
 import org.gradle.api.provider.Provider;
-import org.jspecify.annotations.Nullable;
 
 
 /**
@@ -28,6 +26,16 @@ public class GradleProviderAssert<VALUE>
         super(provider);
     }
 
+    /**
+     * Constructs the assertion for the specified Gradle provider and the profile of the chain that created it.
+     *
+     * @param provider Gradle provider to test
+     * @param chainProfile Profile of the map and flatMap calls that created the provider
+     */
+    GradleProviderAssert(final Provider<VALUE> provider, final ProviderChainProfile chainProfile) {
+        super(provider, chainProfile);
+    }
+
     /**
      * Creates the assertion for the specified Gradle provider.
      *
@@ -38,34 +46,4 @@ public class GradleProviderAssert<VALUE>
     public static <T> GradleProviderAssert<T> assertThat(final Provider<T> provider) {
         return new GradleProviderAssert<>(provider);
     }
-
-    /**
-     * Calls {@link Provider#map(Transformer) map} on the {@code Provider} under test. Assertions can then be made
-     * on the {@code Provider} resulting from the map call.
-     *
-     * @param <V> Type contained in the {@link Provider} following the {@link Provider#map(Transformer) map} call.
-     * @param transformer {@link Transformer} to use in the {@link Provider#map(Transformer) map} call
-     * @return New GradleProviderAssert for assertions on the map of the Provider
-     * @throws AssertionError if the {@link Provider} is null.
-     */
-    public <V> GradleProviderAssert<V> map(final Transformer<? extends @Nullable V, ? super VALUE> transformer) {
-        isNotNull();
-        return assertThat(this.actual.map(transformer));
-    }
-
-    /**
-     * Calls {@link Provider#flatMap(Transformer) flatMap} on the {@code Provider} under test. Assertions can then
-     * be made on the {@code Provider} resulting from the flatMap call.
-     *
-     * @param <V> Type contained in the {@link Provider} following the
-     *      {@link Provider#flatMap(Transformer) flatMap} call
-     * @param transformer {@link Transformer} to use in the {@link Provider#flatMap(Transformer) flatMap} call
-     * @return New GradleProviderAssert for assertions on the flatMap of the Provider.
-     * @throws AssertionError if the {@link Provider} is null.
-     */
-    public <V> GradleProviderAssert<V> flatMap(final Transformer<? extends @Nullable Provider<? extends V>,
-            ? super VALUE> transformer) {
-        isNotNull();
-        return assertThat(this.actual.flatMap(transformer));
-    }
 }
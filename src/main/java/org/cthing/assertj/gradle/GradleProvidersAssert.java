@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import org.assertj.core.api.AbstractAssert;
+import org.gradle.api.provider.Provider;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * AssertJ assertions for unit testing many named Gradle {@link Provider}s at once. The first assertion evaluates
+ * all providers concurrently using a bounded pool of threads shared by all assertion objects, and records the value
+ * and evaluation time of each provider. That assertion and all subsequent assertions made using this assertion
+ * object check the recorded values. Every provider is checked, and all failures are reported together in a single
+ * assertion error along with the evaluation times of the failing providers and of the slowest providers. For
+ * example:
+ * <pre>
+ * assertThatProviders(Map.of("version", extension.getVersion(), "outputDir", task.getOutputDir()))
+ *         .allPresent()
+ *         .containsValues(Map.of("version", "1.0"));
+ * </pre>
+ * The providers must be independent of each other and safe to evaluate concurrently.
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradleProvidersAssert
+        extends AbstractAssert<GradleProvidersAssert, Map<String, ? extends Provider<?>>> {
+
+    private static final int SLOWEST_REPORTED = 5;
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                final Thread thread = new Thread(runnable, "assertj-gradle-providers");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Result of evaluating a provider.
+     *
+     * @param value Value of the provider, or {@code null} if it is empty or its evaluation failed
+     * @param failure Exception thrown while evaluating the provider, or {@code null} if the evaluation succeeded
+     * @param time Time taken to evaluate the provider
+     */
+    private record Evaluation(@Nullable Object value, @Nullable RuntimeException failure, Duration time) {
+    }
+
+    @Nullable
+    private Map<String, Evaluation> evaluations;
+
+    /**
+     * Constructs the assertion for the specified Gradle providers.
+     *
+     * @param providers  Gradle providers to test, keyed by a name used to identify them in failure messages
+     */
+    public GradleProvidersAssert(final Map<String, ? extends Provider<?>> providers) {
+        super(providers, GradleProvidersAssert.class);
+    }
+
+    /**
+     * Creates the assertion for the specified Gradle providers.
+     *
+     * @param providers  Gradle providers to test, keyed by a name used to identify them in failure messages
+     * @return This assertion
+     */
+    public static GradleProvidersAssert assertThat(final Map<String, ? extends Provider<?>> providers) {
+        return new GradleProvidersAssert(providers);
+    }
+
+    /**
+     * Verifies that all providers have a value.
+     *
+     * @return This assertion
+     */
+    public GradleProvidersAssert allPresent() {
+        final Map<String, String> failures = new TreeMap<>();
+        evaluate().forEach((name, evaluation) -> {
+            if (evaluation.failure() == null && evaluation.value() == null) {
+                failures.put(name, "was empty");
+            }
+        });
+        check(failures);
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the named providers have the specified values. Providers not named in the expected values are
+     * not checked. Expected values whose names do not identify a provider are reported separately from the failing
+     * providers.
+     *
+     * @param expectedValues  Expected values keyed by provider name
+     * @return This assertion
+     */
+    public GradleProvidersAssert containsValues(final Map<String, ?> expectedValues) {
+        final Map<String, Evaluation> evaluated = evaluate();
+        final Map<String, String> failures = new TreeMap<>();
+        final Set<String> unknownNames = new TreeSet<>();
+        expectedValues.forEach((name, expectedValue) -> {
+            final Evaluation evaluation = evaluated.get(name);
+            if (evaluation == null) {
+                unknownNames.add(name);
+            } else if (evaluation.failure() == null) {
+                if (evaluation.value() == null) {
+                    failures.put(name, String.format("expected '%s' but was empty", expectedValue));
+                } else if (!evaluation.value().equals(expectedValue)) {
+                    failures.put(name, String.format("expected '%s' but was '%s'", expectedValue,
+                                                     evaluation.value()));
+                }
+            }
+        });
+        check(failures, unknownNames);
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the value of every provider satisfies the specified requirements. The requirements are given
+     * the name of each provider and its value, which is {@code null} if the provider is empty.
+     *
+     * @param requirements  Assertions to make on each provider value
+     * @return This assertion
+     */
+    public GradleProvidersAssert allSatisfy(final BiConsumer<String, @Nullable Object> requirements) {
+        final Map<String, String> failures = new TreeMap<>();
+        evaluate().forEach((name, evaluation) -> {
+            if (evaluation.failure() == null) {
+                try {
+                    requirements.accept(name, evaluation.value());
+                } catch (final AssertionError ex) {
+                    failures.put(name, String.valueOf(ex.getMessage()));
+                }
+            }
+        });
+        check(failures);
+        return this.myself;
+    }
+
+    /**
+     * Verifies that every provider was evaluated within the specified time.
+     *
+     * @param duration  Maximum time to evaluate each provider
+     * @return This assertion
+     */
+    public GradleProvidersAssert eachEvaluatesWithin(final Duration duration) {
+        final Map<String, String> failures = new TreeMap<>();
+        evaluate().forEach((name, evaluation) -> {
+            if (evaluation.time().compareTo(duration) > 0) {
+                failures.put(name, String.format("expected evaluation within %d ms", duration.toMillis()));
+            }
+        });
+        check(failures);
+        return this.myself;
+    }
+
+    /**
+     * Evaluates all providers concurrently, if they have not already been evaluated.
+     *
+     * @return Evaluation results keyed by provider name.
+     */
+    private Map<String, Evaluation> evaluate() {
+        isNotNull();
+
+        if (this.evaluations == null) {
+            final Map<String, Future<Evaluation>> futures = new TreeMap<>();
+            try {
+                this.actual.forEach((name, provider) -> futures.put(name, EXECUTOR.submit(() -> evaluate(provider))));
+
+                final Map<String, Evaluation> results = new TreeMap<>();
+                for (final Map.Entry<String, Future<Evaluation>> entry : futures.entrySet()) {
+                    results.put(entry.getKey(), entry.getValue().get());
+                }
+                this.evaluations = results;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while evaluating providers", ex);
+            } catch (final ExecutionException ex) {
+                // Errors, including assertion errors, thrown by a provider are reported as is
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Provider evaluation failed", ex.getCause());
+            } finally {
+                futures.values().forEach(future -> future.cancel(true));
+            }
+        }
+        return this.evaluations;
+    }
+
+    private static Evaluation evaluate(final Provider<?> provider) {
+        final long start = System.nanoTime();
+        try {
+            final Object value = CountingProviders.uncounted(provider::getOrNull);
+            return new Evaluation(value, null, Duration.ofNanos(System.nanoTime() - start));
+        } catch (final RuntimeException ex) {
+            return new Evaluation(null, ex, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Fails if there are any failures or provider evaluation errors, reporting them all along with the evaluation
+     * times of the slowest providers.
+     *
+     * @param failures  Assertion failures keyed by provider name
+     */
+    private void check(final Map<String, String> failures) {
+        check(failures, Set.of());
+    }
+
+    /**
+     * Fails if there are any failures, provider evaluation errors or unknown provider names, reporting them all
+     * along with the evaluation times of the slowest providers.
+     *
+     * @param failures  Assertion failures keyed by provider name
+     * @param unknownNames  Names used by the assertion that do not identify a provider
+     */
+    private void check(final Map<String, String> failures, final Set<String> unknownNames) {
+        final Map<String, Evaluation> evaluated = Objects.requireNonNull(this.evaluations);
+        evaluated.forEach((name, evaluation) -> {
+            if (evaluation.failure() != null) {
+                failures.put(name, "evaluation failed: " + evaluation.failure());
+            }
+        });
+
+        if (!failures.isEmpty() || !unknownNames.isEmpty()) {
+            final StringBuilder buffer = new StringBuilder();
+            failures.forEach((name, message) -> {
+                final long millis = Objects.requireNonNull(evaluated.get(name)).time().toMillis();
+                buffer.append("\n  ")
+                      .append(name)
+                      .append(" (")
+                      .append(millis)
+                      .append(" ms): ")
+                      .append(message);
+            });
+
+            if (!unknownNames.isEmpty()) {
+                buffer.append("\nUnknown providers: ").append(String.join(", ", unknownNames));
+            }
+
+            buffer.append("\nSlowest evaluations:");
+            final List<Map.Entry<String, Evaluation>> entries = new ArrayList<>(evaluated.entrySet());
+            entries.sort(Comparator.comparing((Map.Entry<String, Evaluation> entry) -> entry.getValue().time())
+                                   .reversed());
+            entries.stream()
+                   .limit(SLOWEST_REPORTED)
+                   .forEach(entry -> buffer.append("\n  ")
+                                           .append(entry.getKey())
+                                           .append(' ')
+                                           .append(entry.getValue().time().toMillis())
+                                           .append(" ms"));
+
+            failWithMessage("%d of %d providers failed:%s", failures.size(), evaluated.size(), buffer.toString());
+        }
+    }
+}
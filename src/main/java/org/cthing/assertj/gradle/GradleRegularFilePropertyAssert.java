@@ -7,11 +7,8 @@ package org.cthing.assertj.gradle;
 
 import org.assertj.core.api.AbstractFileAssert;
 import org.assertj.core.api.AbstractStringAssert;
-import org.gradle.api.Transformer;
 import org.gradle.api.file.RegularFile;
 import org.gradle.api.file.RegularFileProperty;
-import org.gradle.api.provider.Provider;
-import org.jspecify.annotations.Nullable;
 
 
 /**
@@ -75,34 +72,4 @@ public class GradleRegularFilePropertyAssert
     public AbstractStringAssert<?> getString() {
         return getRegularFile().asString();
     }
-
-    /**
-     * Calls {@link Provider#map(Transformer) map} on the {@code Provider} under test. Assertions can then be made
-     * on the {@code Provider} resulting from the map call.
-     *
-     * @param <V> Type contained in the {@link Provider} following the {@link Provider#map(Transformer) map} call.
-     * @param transformer {@link Transformer} to use in the {@link Provider#map(Transformer) map} call
-     * @return New GradleProviderAssert for assertions on the map of the regular file property.
-     * @throws AssertionError if the {@link Provider} is null.
-     */
-    public <V> GradleProviderAssert<V> map(final Transformer<? extends @Nullable V, ? super RegularFile> transformer) {
-        isNotNull();
-        return GradleProviderAssert.assertThat(this.actual.map(transformer));
-    }
-
-    /**
-     * Calls {@link Provider#flatMap(Transformer) flatMap} on the {@code RegularFileProperty} under test. Assertions
-     * can then be made on the {@code Provider} resulting from the flatMap call.
-     *
-     * @param <V> Type contained in the {@link Provider} following the {@link Provider#flatMap(Transformer) flatMap}
-     *      call
-     * @param transformer {@link Transformer} to use in the {@link Provider#flatMap(Transformer) flatMap} call
-     * @return New GradleProviderAssert for assertions on the flatMap of the regular file property.
-     * @throws AssertionError if the {@link Provider} is null.
-     */
-    public <V> GradleProviderAssert<V> flatMap(final Transformer<? extends @Nullable Provider<? extends V>,
-            ? super RegularFile> transformer) {
-        isNotNull();
-        return GradleProviderAssert.assertThat(this.actual.flatMap(transformer));
-    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Set;
+
+import org.gradle.api.provider.SetProperty;
+
+
+/**
+ * AssertJ assertions for unit testing a Gradle {@link SetProperty}. Element lookups use the set rather than
+ * iterating its elements.
+ *
+ * @param <ELEMENT> Type of the elements in the set
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradleSetPropertyAssert<ELEMENT> extends AbstractGradleCollectionPropertyAssert<
+        GradleSetPropertyAssert<ELEMENT>, ELEMENT, Set<ELEMENT>, SetProperty<ELEMENT>> {
+
+    /**
+     * Constructs the assertion for the specified Gradle set property.
+     *
+     * @param setProperty  Gradle set property to test
+     */
+    public GradleSetPropertyAssert(final SetProperty<ELEMENT> setProperty) {
+        super(setProperty);
+    }
+
+    /**
+     * Creates the assertion for the specified Gradle set property.
+     *
+     * @param <T> Type of the elements in the set
+     * @param setProperty  Gradle set property to test
+     * @return This assertion
+     */
+    public static <T> GradleSetPropertyAssert<T> assertThat(final SetProperty<T> setProperty) {
+        return new GradleSetPropertyAssert<>(setProperty);
+    }
+}
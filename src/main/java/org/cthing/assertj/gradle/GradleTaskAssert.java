@@ -7,10 +7,12 @@ package org.cthing.assertj.gradle;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.AbstractAssert;
 import org.gradle.api.Task;
+import org.gradle.api.internal.GeneratedSubclasses;
 
 
 /**
@@ -246,4 +248,32 @@ public class GradleTaskAssert extends AbstractAssert<GradleTaskAssert, Task> {
         hasOutputs();
         return new GradleFileCollectionAssert(this.actual.getOutputs().getFiles());
     }
+
+    /**
+     * Verifies that the input and output properties of the task's type use lazy types (e.g. {@code Property},
+     * {@code Provider}, {@code ConfigurableFileCollection}, {@code RegularFileProperty}) and are annotated for
+     * effective up-to-date checking and build caching. The getters in the type's hierarchy annotated with
+     * {@code @Input}, {@code @InputFile}, {@code @InputFiles}, {@code @InputDirectory}, {@code @Classpath},
+     * {@code @CompileClasspath}, {@code @OutputFile}, {@code @OutputFiles}, {@code @OutputDirectory},
+     * {@code @OutputDirectories} or {@code @Nested} are checked. File inputs must be annotated with
+     * {@code @PathSensitive} unless they are classpaths, and {@code @SkipWhenEmpty} file inputs must be annotated
+     * with {@code @IgnoreEmptyDirectories}. The types of nested properties are checked recursively. The reflective
+     * audit of each task type is cached.
+     *
+     * @return This assertion
+     */
+    public GradleTaskAssert usesLazyInputsOnly() {
+        isNotNull();
+
+        final Class<?> type = GeneratedSubclasses.unpackType(this.actual);
+        final Set<String> issues = TaskInputAudit.findIssues(type);
+        if (!issues.isEmpty()) {
+            final StringBuilder buffer = new StringBuilder();
+            issues.forEach(issue -> buffer.append("\n  ").append(issue));
+            failWithMessage("Expected task '%s' of type '%s' to use only lazy inputs and outputs, but found:%s",
+                            this.actual.getName(), type.getName(), buffer.toString());
+        }
+
+        return this.myself;
+    }
 }
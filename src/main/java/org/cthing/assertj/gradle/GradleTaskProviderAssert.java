@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.function.Consumer;
+
+import org.gradle.api.Task;
+import org.gradle.api.internal.provider.ProviderInternal;
+import org.gradle.api.tasks.TaskProvider;
+
+
+/**
+ * AssertJ assertions for unit testing a Gradle {@link TaskProvider}. Unlike {@link GradleTaskAssert}, the name and
+ * type assertions operate on the information Gradle records when a task is registered, so they do not cause the
+ * task to be created and configured. The task is only realized by assertions that require the task instance (e.g.
+ * {@link #hasTaskSatisfying(Consumer)}).
+ *
+ * @param <T> Type of the task provided by the {@link TaskProvider}
+ */
+@SuppressWarnings("UnusedReturnValue")
+public class GradleTaskProviderAssert<T extends Task>
+        extends AbstractGradleProviderAssert<GradleTaskProviderAssert<T>, T, TaskProvider<T>> {
+
+    /**
+     * Constructs the assertion for the specified Gradle task provider.
+     *
+     * @param taskProvider Gradle task provider to test
+     */
+    public GradleTaskProviderAssert(final TaskProvider<T> taskProvider) {
+        super(taskProvider);
+    }
+
+    /**
+     * Creates the assertion for the specified Gradle task provider.
+     *
+     * @param <T> Type of the task provided by the {@link TaskProvider}
+     * @param taskProvider Gradle task provider to test
+     * @return This assertion
+     */
+    public static <T extends Task> GradleTaskProviderAssert<T> assertThat(final TaskProvider<T> taskProvider) {
+        return new GradleTaskProviderAssert<>(taskProvider);
+    }
+
+    /**
+     * Verifies that the provided task has the specified name. The task is not realized.
+     *
+     * @param name Expected name of the task
+     * @return This assertion
+     */
+    public GradleTaskProviderAssert<T> hasName(final String name) {
+        isNotNull();
+
+        if (!name.equals(this.actual.getName())) {
+            failWithMessage("Expected task to have name '%s', but it was '%s'", name, this.actual.getName());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Verifies that the provided task was registered with the specified type or a subtype of it. The type is
+     * obtained from the registration information so the task is not realized.
+     *
+     * @param type Expected type of the task
+     * @return This assertion
+     */
+    public GradleTaskProviderAssert<T> hasType(final Class<?> type) {
+        isNotNull();
+
+        final Class<?> registeredType = registeredType(this.actual);
+        if (!type.isAssignableFrom(registeredType)) {
+            failWithMessage("Expected task '%s' to be an instance of '%s' but is '%s'", this.actual.getName(),
+                            type.getName(), registeredType.getName());
+        }
+
+        return this.myself;
+    }
+
+    /**
+     * Realizes the provided task and provides it to the given {@link Consumer} for further assertions. Only the
+     * task represented by the provider is realized.
+     *
+     * @param requirement Allows further assertions on the task
+     * @return This assertion
+     */
+    public GradleTaskProviderAssert<T> hasTaskSatisfying(final Consumer<? super T> requirement) {
+        isNotNull();
+        requirement.accept(getPresentValue());
+        return this.myself;
+    }
+
+    /**
+     * Realizes the provided task and returns a {@link GradleTaskAssert} for chaining assertions on the task.
+     *
+     * @return Task assertion
+     */
+    public GradleTaskAssert getTask() {
+        isNotNull();
+        return GradleTaskAssert.assertThat(getPresentValue());
+    }
+
+    /**
+     * Obtains the type with which the specified task was registered. Gradle task providers record the registered
+     * type, which is used when available. Otherwise, the task is realized to determine its type.
+     *
+     * @param taskProvider Provider of the task whose type is to be obtained
+     * @return Type of the provided task.
+     */
+    static Class<?> registeredType(final TaskProvider<?> taskProvider) {
+        if (taskProvider instanceof ProviderInternal<?> providerInternal) {
+            final Class<?> type = providerInternal.getType();
+            if (type != null) {
+                return type;
+            }
+        }
+        return taskProvider.get().getClass();
+    }
+}
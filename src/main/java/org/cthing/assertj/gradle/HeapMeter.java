@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+
+/**
+ * Measures the live objects on the heap. When the JVM provides the HotSpot diagnostic command MXBean, a class
+ * histogram of the live objects is obtained, which forces a full garbage collection and gives the number of bytes
+ * retained by each class. Otherwise, a garbage collection is requested using the
+ * {@link java.lang.management.MemoryMXBean} and only the used heap size is measured.
+ */
+final class HeapMeter {
+
+    /**
+     * Live heap measurement.
+     *
+     * @param totalBytes Number of bytes used by live objects
+     * @param classBytes Number of bytes used by the live objects of each class, or an empty map if a class
+     *      histogram is not available
+     */
+    record Snapshot(long totalBytes, Map<String, Long> classBytes) {
+
+        /**
+         * Creates a report of the classes whose live objects grew the most between the specified snapshot and this
+         * snapshot.
+         *
+         * @param before Earlier snapshot
+         * @param limit Maximum number of classes to report
+         * @return Report with one line per class, or an empty string if class histograms are not available.
+         */
+        String reportGrowth(final Snapshot before, final int limit) {
+            final Map<String, Long> growth = new HashMap<>();
+            this.classBytes.forEach((className, bytes) -> {
+                final long delta = bytes - before.classBytes.getOrDefault(className, 0L);
+                if (delta > 0) {
+                    growth.put(className, delta);
+                }
+            });
+
+            final StringBuilder buffer = new StringBuilder();
+            growth.entrySet()
+                  .stream()
+                  .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                  .limit(limit)
+                  .forEach(entry -> buffer.append("\n  ")
+                                          .append(entry.getKey())
+                                          .append(' ')
+                                          .append(entry.getValue())
+                                          .append(" bytes"));
+            return buffer.toString();
+        }
+    }
+
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+    private static final Pattern CLASS_LINE = Pattern.compile("^\\s*\\d+:\\s+\\d+\\s+(\\d+)\\s+(\\S+)");
+    private static final Pattern TOTAL_LINE = Pattern.compile("^Total\\s+\\d+\\s+(\\d+)");
+
+    private HeapMeter() {
+    }
+
+    /**
+     * Collects garbage and measures the live objects on the heap.
+     *
+     * @return Live heap measurement.
+     */
+    static Snapshot capture() {
+        try {
+            final String histogram = (String)ManagementFactory.getPlatformMBeanServer()
+                                                              .invoke(new ObjectName(DIAGNOSTIC_COMMAND),
+                                                                      "gcClassHistogram",
+                                                                      new Object[] { new String[0] },
+                                                                      new String[] { String[].class.getName() });
+            return parseHistogram(histogram);
+        } catch (final JMException | RuntimeException ignore) {
+            // The diagnostic command is not available on this JVM.
+        }
+
+        ManagementFactory.getMemoryMXBean().gc();
+        return new Snapshot(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), Map.of());
+    }
+
+    /**
+     * Collects garbage and measures the live objects on the heap for use as the baseline of a comparison with a
+     * later snapshot. While the later snapshot is taken, the baseline snapshot is live and is included in the
+     * measurement. To compensate, the baseline is measured while a preliminary snapshot of the same size is live.
+     *
+     * @return Live heap measurement.
+     */
+    static Snapshot captureBaseline() {
+        final Snapshot preliminary = capture();
+        final Snapshot baseline = capture();
+        Reference.reachabilityFence(preliminary);
+        return baseline;
+    }
+
+    private static Snapshot parseHistogram(final String histogram) {
+        final Map<String, Long> classBytes = new HashMap<>();
+        long total = 0;
+        final Matcher classMatcher = CLASS_LINE.matcher("");
+        final Matcher totalMatcher = TOTAL_LINE.matcher("");
+        for (final String line : histogram.split("\\R")) {
+            if (classMatcher.reset(line).find()) {
+                classBytes.merge(classMatcher.group(2), Long.parseLong(classMatcher.group(1)), Long::sum);
+            } else if (totalMatcher.reset(line).find()) {
+                total = Long.parseLong(totalMatcher.group(1));
+            }
+        }
+        return new Snapshot(total, classBytes);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.gradle.api.DomainObjectCollection;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.provider.Provider;
+
+
+/**
+ * Audits a type for mutable eager state. Gradle types should expose configurable values using lazy types (e.g.
+ * {@link org.gradle.api.provider.Property}, {@link org.gradle.api.file.ConfigurableFileCollection}) so that plugins
+ * can wire values without resorting to {@code afterEvaluate}. A type exposes eager state if it has:
+ * <ul>
+ *     <li>a public setter whose parameter is not a lazy type (e.g. {@code setVersion(String)})</li>
+ *     <li>a public getter returning a mutable collection, map or array that is not a lazy type (e.g.
+ *         {@code List<String> getSources()})</li>
+ *     <li>a public field that is not final, or is a collection, map or array that is not a lazy type</li>
+ * </ul>
+ * Members declared by JDK and Groovy classes, and the {@link groovy.lang.GroovyObject} methods generated in Groovy
+ * classes (e.g. {@code setMetaClass}), are ignored. The results of the audit are cached for each class.
+ */
+final class LazyTypeAudit {
+
+    private static final List<Class<?>> LAZY_TYPES = List.of(Provider.class, FileCollection.class,
+                                                             DomainObjectCollection.class);
+
+    private static final ClassValue<Set<String>> EAGER_MEMBERS = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(final Class<?> type) {
+            return audit(type);
+        }
+    };
+
+    private LazyTypeAudit() {
+    }
+
+    /**
+     * Obtains descriptions of the public members of the specified type that expose mutable eager state.
+     *
+     * @param type Type to audit
+     * @return Descriptions of the eager members in sorted order. Empty if the type exposes only lazy state.
+     */
+    static Set<String> findEagerMembers(final Class<?> type) {
+        return EAGER_MEMBERS.get(type);
+    }
+
+    private static Set<String> audit(final Class<?> type) {
+        final Set<String> members = new TreeSet<>();
+
+        for (final Method method : type.getMethods()) {
+            if (method.isSynthetic() || method.isBridge() || Modifier.isStatic(method.getModifiers())
+                    || AuditFilters.isIgnored(method)) {
+                continue;
+            }
+
+            final String name = method.getName();
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            if (isAccessor(name, "set") && parameterTypes.length == 1 && !isLazy(parameterTypes[0])) {
+                members.add(name + "(" + parameterTypes[0].getTypeName() + ")");
+            } else if ((isAccessor(name, "get") || isAccessor(name, "is")) && parameterTypes.length == 0
+                    && isMutableContainer(method.getReturnType())) {
+                members.add(name + "(): " + method.getReturnType().getTypeName());
+            }
+        }
+
+        for (final Field field : type.getFields()) {
+            final int modifiers = field.getModifiers();
+            if (field.isSynthetic() || Modifier.isStatic(modifiers)
+                    || AuditFilters.isIgnored(field.getDeclaringClass())) {
+                continue;
+            }
+
+            if (!Modifier.isFinal(modifiers) || isMutableContainer(field.getType())) {
+                members.add("field " + field.getName() + ": " + field.getType().getTypeName());
+            }
+        }
+
+        return Collections.unmodifiableSet(members);
+    }
+
+    private static boolean isAccessor(final String methodName, final String prefix) {
+        return methodName.length() > prefix.length()
+                && methodName.startsWith(prefix)
+                && Character.isUpperCase(methodName.charAt(prefix.length()));
+    }
+
+    private static boolean isLazy(final Class<?> type) {
+        return LAZY_TYPES.stream().anyMatch(lazyType -> lazyType.isAssignableFrom(type));
+    }
+
+    private static boolean isMutableContainer(final Class<?> type) {
+        return !isLazy(type)
+                && (type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type));
+    }
+}
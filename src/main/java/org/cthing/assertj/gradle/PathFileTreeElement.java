@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+
+import org.gradle.api.file.FilePermissions;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.file.RelativePath;
+import org.gradle.api.file.UserClassFilePermissions;
+
+
+/**
+ * A regular file found while walking a directory, presented as a {@link FileTreeElement} so that it can be matched
+ * using the {@link org.gradle.api.specs.Spec Spec} obtained from a {@link org.gradle.api.tasks.util.PatternSet}.
+ */
+final class PathFileTreeElement implements FileTreeElement {
+
+    /**
+     * Permissions reported for a file on a file system that does not support POSIX permissions. As with Gradle's
+     * own file trees, these are the default permissions of a file (i.e. {@code 0644}).
+     */
+    private static final int DEFAULT_MODE = 0644;
+
+    /**
+     * Unix permissions of a file.
+     *
+     * @param mode Permissions in the Unix numeric form (e.g. {@code 0644})
+     */
+    private record UnixFilePermissions(int mode) implements FilePermissions {
+        @Override
+        public UserClassFilePermissions getUser() {
+            return new UnixUserClassFilePermissions(this.mode >> 6);
+        }
+
+        @Override
+        public UserClassFilePermissions getGroup() {
+            return new UnixUserClassFilePermissions(this.mode >> 3);
+        }
+
+        @Override
+        public UserClassFilePermissions getOther() {
+            return new UnixUserClassFilePermissions(this.mode);
+        }
+
+        @Override
+        public int toUnixNumeric() {
+            return this.mode;
+        }
+    }
+
+    /**
+     * Unix permissions of a file for one class of user.
+     *
+     * @param bits Permissions in the lowest three bits (i.e. read, write and execute)
+     */
+    private record UnixUserClassFilePermissions(int bits) implements UserClassFilePermissions {
+        @Override
+        public boolean getRead() {
+            return (this.bits & 4) != 0;
+        }
+
+        @Override
+        public boolean getWrite() {
+            return (this.bits & 2) != 0;
+        }
+
+        @Override
+        public boolean getExecute() {
+            return (this.bits & 1) != 0;
+        }
+    }
+
+    private final Path file;
+    private final BasicFileAttributes attrs;
+    private final RelativePath relativePath;
+
+    /**
+     * Constructs the element for a file in a directory.
+     *
+     * @param root Directory containing the file
+     * @param file Regular file in the directory
+     * @param attrs Attributes of the file
+     */
+    PathFileTreeElement(final Path root, final Path file, final BasicFileAttributes attrs) {
+        this.file = file;
+        this.attrs = attrs;
+
+        final Path relative = root.relativize(file);
+        final String[] segments = new String[relative.getNameCount()];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = relative.getName(i).toString();
+        }
+        this.relativePath = new RelativePath(true, segments);
+    }
+
+    @Override
+    public File getFile() {
+        return this.file.toFile();
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return false;
+    }
+
+    @Override
+    public long getLastModified() {
+        return this.attrs.lastModifiedTime().toMillis();
+    }
+
+    @Override
+    public long getSize() {
+        return this.attrs.size();
+    }
+
+    @Override
+    public InputStream open() {
+        try {
+            return Files.newInputStream(this.file);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void copyTo(final OutputStream output) {
+        try {
+            Files.copy(this.file, output);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean copyTo(final File target) {
+        try {
+            Files.copy(this.file, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return this.relativePath.getLastName();
+    }
+
+    @Override
+    public String getPath() {
+        return this.relativePath.getPathString();
+    }
+
+    @Override
+    public RelativePath getRelativePath() {
+        return this.relativePath;
+    }
+
+    /**
+     * Obtains the permissions of the file. On a file system that does not support POSIX permissions, the default
+     * permissions of a file (i.e. {@code 0644}) are returned, as they are for Gradle's own file trees.
+     *
+     * @return Permissions of the file.
+     * @throws UncheckedIOException if the permissions could not be read
+     */
+    @Override
+    public FilePermissions getPermissions() {
+        try {
+            int mode = 0;
+            for (final PosixFilePermission permission : Files.getPosixFilePermissions(this.file)) {
+                // The constants are declared from OWNER_READ (0400) to OTHERS_EXECUTE (0001)
+                mode |= 1 << (PosixFilePermission.values().length - 1 - permission.ordinal());
+            }
+            return new UnixFilePermissions(mode);
+        } catch (final UnsupportedOperationException ex) {
+            return new UnixFilePermissions(DEFAULT_MODE);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
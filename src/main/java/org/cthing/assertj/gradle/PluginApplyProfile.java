@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gradle.api.Project;
+import org.gradle.api.internal.plugins.ApplyPluginBuildOperationType;
+import org.gradle.api.internal.project.ProjectInternal;
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationListener;
+import org.gradle.internal.operations.BuildOperationListenerManager;
+import org.gradle.internal.operations.OperationFinishEvent;
+import org.gradle.internal.operations.OperationIdentifier;
+import org.gradle.internal.operations.OperationProgressEvent;
+import org.gradle.internal.operations.OperationStartEvent;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Profile of applying a plugin to a Gradle {@link Project}. The profile is a tree whose nodes are the plugins
+ * applied, directly or indirectly, by the plugin. Each node records the wall clock time taken to apply the plugin
+ * and the number of bytes allocated by the applying thread, including the cost of the plugins it applies. Use
+ * {@link GradlePluginApplyProfileAssert} to make assertions on the profile. For example:
+ * <pre>
+ * final PluginApplyProfile profile = PluginApplyProfile.profile(project, "org.example.my-plugin");
+ * assertThat(profile).appliesWithin(Duration.ofMillis(200)).allocatesAtMost(50_000_000);
+ * </pre>
+ * The profile is obtained by listening to the build operations Gradle performs when applying plugins. Allocations
+ * are only measured on JVMs that support measuring thread allocations, otherwise they are reported as -1.
+ */
+public final class PluginApplyProfile {
+
+    /**
+     * Application of a single plugin.
+     */
+    public static final class Node {
+        private final String name;
+        private final List<Node> children;
+        private final long startTime;
+        private final long startAllocation;
+        private long elapsedNanos;
+        private long allocatedBytes;
+
+        private Node(final String name) {
+            this.name = name;
+            this.children = new ArrayList<>();
+            this.startTime = System.nanoTime();
+            this.startAllocation = AllocationMeter.currentThreadAllocatedBytes();
+        }
+
+        private void finish() {
+            this.elapsedNanos = System.nanoTime() - this.startTime;
+            this.allocatedBytes = (this.startAllocation == AllocationMeter.UNSUPPORTED)
+                                  ? AllocationMeter.UNSUPPORTED
+                                  : AllocationMeter.currentThreadAllocatedBytes() - this.startAllocation;
+        }
+
+        /**
+         * Obtains the identifier of the plugin or, if the plugin was applied by class, the name of its class.
+         *
+         * @return Name of the plugin.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Obtains the time taken to apply the plugin, including the plugins it applies.
+         *
+         * @return Time taken to apply the plugin.
+         */
+        public Duration getDuration() {
+            return Duration.ofNanos(this.elapsedNanos);
+        }
+
+        /**
+         * Obtains the number of bytes allocated while applying the plugin, including the plugins it applies.
+         *
+         * @return Number of bytes allocated, or -1 if allocations cannot be measured.
+         */
+        public long getAllocatedBytes() {
+            return this.allocatedBytes;
+        }
+
+        /**
+         * Obtains the plugins applied by this plugin in the order they were applied.
+         *
+         * @return Plugins applied by this plugin.
+         */
+        public List<Node> getChildren() {
+            return Collections.unmodifiableList(this.children);
+        }
+
+        private void format(final StringBuilder buffer, final int depth) {
+            buffer.append('\n').append("  ".repeat(depth + 1)).append(this.name)
+                  .append(' ').append(this.elapsedNanos / 1_000_000).append(" ms");
+            if (this.allocatedBytes != AllocationMeter.UNSUPPORTED) {
+                buffer.append(", ").append(this.allocatedBytes).append(" bytes");
+            }
+            for (final Node child : this.children) {
+                child.format(buffer, depth + 1);
+            }
+        }
+    }
+
+    private final Node root;
+
+    private PluginApplyProfile(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Applies the specified plugin to the project and records the profile of its application. If the plugin has
+     * already been applied, the profile has no children and records only the cost of the redundant application.
+     *
+     * @param project Project to which the plugin is to be applied
+     * @param pluginId Identifier of the plugin to apply
+     * @return Profile of the plugin application.
+     */
+    public static PluginApplyProfile profile(final Project project, final String pluginId) {
+        final Recorder recorder = new Recorder(pluginId);
+        final BuildOperationListenerManager listenerManager =
+                ((ProjectInternal)project).getServices().get(BuildOperationListenerManager.class);
+        listenerManager.addListener(recorder);
+        try {
+            project.getPluginManager().apply(pluginId);
+        } finally {
+            listenerManager.removeListener(recorder);
+            recorder.root.finish();
+        }
+
+        // When the plugin applied a single top level plugin, that plugin is the root of the profile.
+        final List<Node> topLevel = recorder.root.children;
+        return new PluginApplyProfile(topLevel.size() == 1 ? topLevel.get(0) : recorder.root);
+    }
+
+    /**
+     * Obtains the root of the profile tree, which represents the requested plugin.
+     *
+     * @return Root of the profile.
+     */
+    public Node getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Obtains the time taken to apply the plugin, including the plugins it applies.
+     *
+     * @return Time taken to apply the plugin.
+     */
+    public Duration getDuration() {
+        return this.root.getDuration();
+    }
+
+    /**
+     * Obtains the number of bytes allocated while applying the plugin, including the plugins it applies.
+     *
+     * @return Number of bytes allocated, or -1 if allocations cannot be measured.
+     */
+    public long getAllocatedBytes() {
+        return this.root.getAllocatedBytes();
+    }
+
+    /**
+     * Formats the profile as an indented tree with one plugin per line.
+     *
+     * @return Formatted profile, beginning with a newline.
+     */
+    public String format() {
+        final StringBuilder buffer = new StringBuilder();
+        this.root.format(buffer, 0);
+        return buffer.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    /**
+     * Listens to the build operations performed on the applying thread and builds the profile tree from the plugin
+     * application operations. Other operations (e.g. task registration) are mapped to the nearest enclosing plugin.
+     */
+    private static final class Recorder implements BuildOperationListener {
+        private final Thread thread;
+        private final Node root;
+        private final Map<OperationIdentifier, Node> operations;
+
+        Recorder(final String pluginId) {
+            this.thread = Thread.currentThread();
+            this.root = new Node(pluginId);
+            this.operations = new HashMap<>();
+        }
+
+        @Override
+        public void started(final BuildOperationDescriptor descriptor, final OperationStartEvent startEvent) {
+            if (Thread.currentThread() != this.thread) {
+                return;
+            }
+
+            final Node parent = findNode(descriptor.getParentId());
+            if (descriptor.getDetails() instanceof ApplyPluginBuildOperationType.Details details) {
+                final String pluginId = details.getPluginId();
+                final Node node = new Node(pluginId == null ? details.getPluginClass().getName() : pluginId);
+                parent.children.add(node);
+                this.operations.put(descriptor.getId(), node);
+            } else {
+                this.operations.put(descriptor.getId(), parent);
+            }
+        }
+
+        @Override
+        public void progress(final OperationIdentifier operationIdentifier,
+                             final OperationProgressEvent progressEvent) {
+        }
+
+        @Override
+        public void finished(final BuildOperationDescriptor descriptor, final OperationFinishEvent finishEvent) {
+            if (Thread.currentThread() != this.thread) {
+                return;
+            }
+
+            final Node node = this.operations.remove(descriptor.getId());
+            if (node != null && node != findNode(descriptor.getParentId())) {
+                node.finish();
+            }
+        }
+
+        private Node findNode(@Nullable final OperationIdentifier operationId) {
+            final Node node = (operationId == null) ? null : this.operations.get(operationId);
+            return (node == null) ? this.root : node;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Describes the Gradle {@link org.gradle.api.Project} to inject into a test method parameter by the
+ * {@link PooledProjectExtension}. Projects with the same plugins, name and layout are taken from the
+ * same pool.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface PooledProject {
+
+    /**
+     * Identifiers of the plugins to apply to the project, in the order they are to be applied.
+     *
+     * @return Plugin identifiers.
+     */
+    String[] plugins() default {};
+
+    /**
+     * Name of the project.
+     *
+     * @return Project name.
+     */
+    String name() default "test";
+
+    /**
+     * Directory whose contents are placed in the project directory, relative to the working directory of the test.
+     * The project is created using a {@link ProjectTemplate} for the directory. By default, the project directory is
+     * empty.
+     *
+     * @return Template directory or an empty string for an empty project directory.
+     */
+    String template() default "";
+
+    /**
+     * Names of the child projects to create in the project. Plugins are only applied to the root project.
+     *
+     * @return Child project names.
+     */
+    String[] subprojects() default {};
+
+    /**
+     * Indicates whether the project can be reused by other tests. By default, a project is discarded when the test
+     * completes. A reusable project is returned to the pool for use by other tests running on the same thread
+     * provided that its state is unchanged when the test completes. The
+     * state consists of the plugins, extensions, repositories, configurations and their dependencies, extra
+     * properties, the values of the properties of extensions and realized tasks, the realized tasks and their
+     * settings, whether the project has been evaluated, and the files in the project directory. Projects whose
+     * state has changed are discarded.
+     * <p>
+     * Some changes cannot be detected without realizing tasks or calculating values. These include actions added
+     * to tasks that have not been realized (e.g. using {@code named("jar").configure(...)}), actions added to
+     * domain object collections (e.g. using {@code configureEach} or {@code afterEvaluate}), changes to file
+     * collections (e.g. adding a source directory to a source set), and changes to the values calculated by
+     * providers. Such changes would be seen by the next test to use the project, so only specify {@code true} for
+     * tests that do not make them.
+     * </p>
+     *
+     * @return {@code true} if the project can be reused when its state is unchanged.
+     */
+    boolean reusable() default false;
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gradle.api.Project;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+
+/**
+ * JUnit 5 extension that injects Gradle {@link Project} instances into test method parameters. Creating a project
+ * using the {@link org.gradle.testfixtures.ProjectBuilder} and applying plugins to it is expensive. This extension
+ * takes projects from a pool that is shared by all tests in the JVM. All pooled projects share a single Gradle user
+ * home directory. Projects are always built on the thread running the test, because Gradle binds a project to the
+ * thread that creates it. Use the {@link PooledProject}
+ * annotation to specify the plugins to apply to the project. For example:
+ * <pre>
+ * &#64;ExtendWith(PooledProjectExtension.class)
+ * public class MyPluginTest {
+ *     &#64;Test
+ *     public void testApply(&#64;PooledProject(plugins = { "java", "checkstyle" }) final Project project) {
+ *         assertThat(project).hasTask("checkstyleMain");
+ *     }
+ * }
+ * </pre>
+ * When the test completes, the project is discarded. A test that does not change the project in ways that cannot be
+ * detected can specify {@link PooledProject#reusable()} so that the project is returned to the pool for reuse by
+ * subsequent tests running on the same thread, unless the test changed the state of the project, in which case it is
+ * still discarded. See {@link PooledProject#reusable()} for the changes that are detected.
+ */
+public class PooledProjectExtension implements ParameterResolver, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PooledProjectExtension.class);
+    private static final String LEASES_KEY = "leases";
+    private static final ProjectPool.Key DEFAULT_KEY = new ProjectPool.Key(List.of(), "test");
+
+    /**
+     * A project on loan from the pool for the duration of a test.
+     *
+     * @param project Project on loan
+     * @param reusable Indicates whether the project can be returned to the pool if its state is unchanged
+     */
+    private record Lease(Project project, boolean reusable) {
+    }
+
+    /**
+     * Constructs the extension.
+     */
+    public PooledProjectExtension() {
+    }
+
+    @Override
+    public boolean supportsParameter(final ParameterContext parameterContext,
+                                     final ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == Project.class;
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        final PooledProject annotation = parameterContext.findAnnotation(PooledProject.class).orElse(null);
+        final ProjectPool.Key key = (annotation == null)
+                                    ? DEFAULT_KEY
+                                    : new ProjectPool.Key(List.of(annotation.plugins()), annotation.name(),
+                                                          new ProjectPool.Layout(annotation.template(),
+                                                                                 List.of(annotation.subprojects())));
+        final boolean reusable = annotation != null && annotation.reusable();
+
+        final Project project = ProjectPool.getInstance().acquire(key);
+        getLeases(extensionContext).add(new Lease(project, reusable));
+        return project;
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext extensionContext) {
+        final List<Lease> leases = getLeases(extensionContext);
+        for (final Lease lease : leases) {
+            if (lease.reusable()) {
+                ProjectPool.getInstance().release(lease.project());
+            } else {
+                ProjectPool.getInstance().discard(lease.project());
+            }
+        }
+        leases.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Lease> getLeases(final ExtensionContext extensionContext) {
+        final ExtensionContext.Store store = extensionContext.getStore(NAMESPACE);
+        List<Lease> leases = (List<Lease>)store.get(LEASES_KEY);
+        if (leases == null) {
+            leases = new ArrayList<>();
+            store.put(LEASES_KEY, leases);
+        }
+        return leases;
+    }
+}
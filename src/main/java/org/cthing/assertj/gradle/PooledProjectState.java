@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.artifacts.DependencyConstraint;
+import org.gradle.api.artifacts.ExcludeRule;
+import org.gradle.api.artifacts.repositories.ArtifactRepository;
+import org.gradle.api.internal.provider.AbstractProperty;
+import org.gradle.api.plugins.ExtensionContainer;
+import org.gradle.api.plugins.ExtensionsSchema.ExtensionSchema;
+import org.gradle.api.provider.HasConfigurableValue;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * State of a pooled Gradle project that a test can change. The state is captured when a project is lent to a test
+ * and again when the test returns it, and the project is only reused if the state is unchanged. For the project and
+ * each of its subprojects, the state consists of:
+ * <ul>
+ *     <li>the plugins, extension types, task types and configuration roles (see {@link GradleProjectSnapshot})</li>
+ *     <li>whether the project has been evaluated, and its group, version, description, status and build
+ *         directory</li>
+ *     <li>the extra properties</li>
+ *     <li>the repositories</li>
+ *     <li>the state, parents, dependencies, dependency constraints and exclude rules of each configuration</li>
+ *     <li>the values of the properties of each extension and each realized task, as well as the description, group,
+ *         enabled flag, dependencies and number of actions of each realized task</li>
+ *     <li>the names of the realized tasks</li>
+ *     <li>the size and modification time of the files in the project directory</li>
+ * </ul>
+ * Only properties whose values can be configured (e.g. {@link org.gradle.api.provider.Property}) are considered.
+ * Property values are described without calculating them, so capturing the state does not finalize properties or
+ * realize tasks. The description of a property set to a provider identifies the provider, not its value.
+ */
+final class PooledProjectState {
+
+    @Nullable
+    private static final Method DESCRIBE_VALUE = findDescribeValue();
+
+    private static final ClassValue<List<Method>> PROPERTY_GETTERS = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(final Class<?> type) {
+            return findPropertyGetters(type);
+        }
+    };
+
+    private final Map<String, GradleProjectSnapshot> snapshots;
+    private final SortedMap<String, String> values;
+    private final boolean complete;
+
+    private PooledProjectState(final Project rootProject, final Collection<Task> realizedTasks) {
+        this.snapshots = new HashMap<>();
+        this.values = new TreeMap<>();
+
+        final Map<Project, List<Task>> tasksByProject =
+                realizedTasks.stream().collect(Collectors.groupingBy(Task::getProject));
+        boolean describable = DESCRIBE_VALUE != null;
+        for (final Project project : rootProject.getAllprojects()) {
+            this.snapshots.put(project.getPath(), GradleProjectSnapshot.capture(project));
+            describable &= captureProject(project, tasksByProject.getOrDefault(project, List.of()));
+        }
+        captureFiles(rootProject.getProjectDir().toPath());
+        this.complete = describable;
+    }
+
+    /**
+     * Captures the state of the specified project and its subprojects.
+     *
+     * @param rootProject Project whose state is to be captured
+     * @param realizedTasks Tasks in the project and its subprojects that have been realized
+     * @return State of the project.
+     */
+    static PooledProjectState capture(final Project rootProject, final Collection<Task> realizedTasks) {
+        return new PooledProjectState(rootProject, realizedTasks);
+    }
+
+    /**
+     * Indicates whether the project is in the same state as when this state was captured.
+     *
+     * @param later State of the project captured after this state
+     * @return {@code true} if both states were captured in full and are the same. If the values of properties
+     *      cannot be described (e.g. because the internal Gradle classes have changed), the states are never the
+     *      same.
+     */
+    boolean isUnchanged(final PooledProjectState later) {
+        return this.complete
+                && later.complete
+                && this.snapshots.equals(later.snapshots)
+                && this.values.equals(later.values);
+    }
+
+    private boolean captureProject(final Project project, final List<Task> realizedTasks) {
+        final String prefix = project.getPath() + ' ';
+        put(prefix + "executed", project.getState().getExecuted());
+        put(prefix + "group", project.getGroup());
+        put(prefix + "version", project.getVersion());
+        put(prefix + "description", project.getDescription());
+        put(prefix + "status", project.getStatus());
+        put(prefix + "buildDirectory", describe(project.getLayout().getBuildDirectory()));
+
+        final ExtensionContainer extensions = project.getExtensions();
+        extensions.getExtraProperties()
+                  .getProperties()
+                  .forEach((name, value) -> put(prefix + "ext." + name, value));
+
+        for (final ArtifactRepository repository : project.getRepositories()) {
+            put(prefix + "repository." + repository.getName(), repository.getClass().getName());
+        }
+
+        for (final Configuration configuration : project.getConfigurations()) {
+            put(prefix + "configuration." + configuration.getName(), describe(configuration));
+        }
+
+        boolean describable = true;
+        for (final ExtensionSchema schema : extensions.getExtensionsSchema().getElements()) {
+            describable &= captureProperties(prefix + "extension." + schema.getName(),
+                                             extensions.getByName(schema.getName()));
+        }
+
+        for (final Task task : realizedTasks) {
+            final String taskPrefix = prefix + "task." + task.getName();
+            put(taskPrefix, task.getDescription() + ", group=" + task.getGroup() + ", enabled=" + task.getEnabled()
+                    + ", dependsOn=" + task.getDependsOn() + ", actions=" + task.getActions().size());
+            describable &= captureProperties(taskPrefix, task);
+        }
+
+        return describable;
+    }
+
+    private boolean captureProperties(final String prefix, final Object object) {
+        boolean describable = true;
+        for (final Method getter : PROPERTY_GETTERS.get(object.getClass())) {
+            final Object value;
+            try {
+                value = getter.invoke(object);
+            } catch (final IllegalAccessException | InvocationTargetException ex) {
+                put(prefix + '.' + getter.getName(), ex.getClass().getName());
+                continue;
+            }
+            if (value instanceof AbstractProperty<?, ?> property) {
+                final String description = describe(property);
+                describable &= description != null;
+                put(prefix + '.' + getter.getName(), description);
+            }
+        }
+        return describable;
+    }
+
+    private void captureFiles(final Path projectDir) {
+        if (!Files.isDirectory(projectDir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(projectDir)) {
+            paths.forEach(path -> {
+                try {
+                    final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    put("file " + projectDir.relativize(path), attributes.size() + ", "
+                            + attributes.lastModifiedTime());
+                } catch (final IOException ex) {
+                    put("file " + projectDir.relativize(path), ex.getClass().getName());
+                }
+            });
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void put(final String key, @Nullable final Object value) {
+        this.values.put(key, String.valueOf(value));
+    }
+
+    private static String describe(final Configuration configuration) {
+        final StringBuilder buffer = new StringBuilder();
+        buffer.append(configuration.getState())
+              .append(", transitive=")
+              .append(configuration.isTransitive())
+              .append(", extendsFrom=")
+              .append(configuration.getExtendsFrom()
+                                   .stream()
+                                   .map(Configuration::getName)
+                                   .sorted()
+                                   .toList());
+        for (final Dependency dependency : configuration.getDependencies()) {
+            buffer.append(", dependency ")
+                  .append(dependency.getClass().getName())
+                  .append(' ')
+                  .append(dependency.getGroup())
+                  .append(':')
+                  .append(dependency.getName())
+                  .append(':')
+                  .append(dependency.getVersion());
+        }
+        for (final DependencyConstraint constraint : configuration.getDependencyConstraints()) {
+            buffer.append(", constraint ")
+                  .append(constraint.getGroup())
+                  .append(':')
+                  .append(constraint.getName())
+                  .append(':')
+                  .append(constraint.getVersion());
+        }
+        for (final ExcludeRule rule : configuration.getExcludeRules()) {
+            buffer.append(", exclude ")
+                  .append(rule.getGroup())
+                  .append(':')
+                  .append(rule.getModule());
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Describes the value of a property without calculating it. A property whose value is fixed is described by
+     * its value, and a property whose value is calculated is described by the providers that calculate it.
+     *
+     * @param property Property to describe
+     * @return Description of the value of the property, or {@code null} if the value cannot be described.
+     */
+    @Nullable
+    private static String describe(final Object property) {
+        if (DESCRIBE_VALUE == null || !(property instanceof AbstractProperty<?, ?>)) {
+            return null;
+        }
+        try {
+            return (String)DESCRIBE_VALUE.invoke(property);
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Method findDescribeValue() {
+        try {
+            final Method method = AbstractProperty.class.getDeclaredMethod("describeValue");
+            method.setAccessible(true);
+            return method;
+        } catch (final NoSuchMethodException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static List<Method> findPropertyGetters(final Class<?> type) {
+        final List<Method> getters = new ArrayList<>();
+        for (final Method method : type.getMethods()) {
+            if (!method.isSynthetic() && !method.isBridge() && !Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 0 && method.getName().startsWith("get")
+                    && HasConfigurableValue.class.isAssignableFrom(method.getReturnType())
+                    && !AuditFilters.isIgnored(method)) {
+                getters.add(method);
+            }
+        }
+        return List.copyOf(getters);
+    }
+}
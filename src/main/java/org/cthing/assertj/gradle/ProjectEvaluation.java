@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.gradle.api.Project;
+import org.gradle.api.internal.project.ProjectInternal;
+import org.gradle.api.tasks.TaskContainer;
+
+
+/**
+ * Measurements of the evaluation of a Gradle project: the time taken, the memory allocated by the evaluating
+ * thread, and the number of tasks and configurations realized.
+ */
+final class ProjectEvaluation {
+
+    /**
+     * Realization counters keyed by the task container of their project. Projects with the same path are equal, so
+     * a project cannot be used as the key. The task container is unique to each project.
+     */
+    private static final Map<TaskContainer, AtomicInteger> COUNTERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Duration duration;
+    private final long allocatedBytes;
+    private final int realizedDomainObjects;
+
+    private ProjectEvaluation(final Duration duration, final long allocatedBytes, final int realizedDomainObjects) {
+        this.duration = duration;
+        this.allocatedBytes = allocatedBytes;
+        this.realizedDomainObjects = realizedDomainObjects;
+    }
+
+    /**
+     * Evaluates the specified project, which runs its {@code afterEvaluate} actions, and measures the evaluation.
+     * If the project has already been evaluated, the measurements will be negligible.
+     *
+     * @param project Project to evaluate
+     * @return Measurements of the evaluation.
+     */
+    static ProjectEvaluation evaluate(final Project project) {
+        final AtomicInteger realized = realizationCounter(project);
+        final int startRealized = realized.get();
+        final long startAllocation = AllocationMeter.currentThreadAllocatedBytes();
+        final long startTime = System.nanoTime();
+        ((ProjectInternal)project).evaluate();
+        final long elapsed = System.nanoTime() - startTime;
+        final long allocated = (startAllocation == AllocationMeter.UNSUPPORTED)
+                               ? AllocationMeter.UNSUPPORTED
+                               : AllocationMeter.currentThreadAllocatedBytes() - startAllocation;
+
+        return new ProjectEvaluation(Duration.ofNanos(elapsed), allocated, realized.get() - startRealized);
+    }
+
+    /**
+     * Obtains the counter of the tasks and configurations realized in the specified project. The first time a
+     * counter is requested for a project, actions that increment it are added to the project's tasks and
+     * configurations. Subsequent requests return the same counter, so the actions are added only once per project.
+     *
+     * @param project Project whose realizations are to be counted
+     * @return Number of tasks and configurations realized in the project since the counter was created, including
+     *      those that already existed when it was created.
+     */
+    private static AtomicInteger realizationCounter(final Project project) {
+        synchronized (COUNTERS) {
+            AtomicInteger counter = COUNTERS.get(project.getTasks());
+            if (counter == null) {
+                final AtomicInteger newCounter = new AtomicInteger();
+                project.getTasks().configureEach(task -> newCounter.incrementAndGet());
+                project.getConfigurations().configureEach(configuration -> newCounter.incrementAndGet());
+                COUNTERS.put(project.getTasks(), newCounter);
+                counter = newCounter;
+            }
+            return counter;
+        }
+    }
+
+    /**
+     * Obtains the time taken to evaluate the project.
+     *
+     * @return Evaluation time.
+     */
+    Duration getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Obtains the number of bytes allocated by the evaluating thread.
+     *
+     * @return Number of bytes allocated, or {@link AllocationMeter#UNSUPPORTED} if allocations cannot be measured.
+     */
+    long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Obtains the number of tasks and configurations realized during evaluation.
+     *
+     * @return Number of realized domain objects.
+     */
+    int getRealizedDomainObjects() {
+        return this.realizedDomainObjects;
+    }
+}
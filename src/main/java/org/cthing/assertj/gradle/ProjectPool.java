@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Pool of Gradle projects created using the {@link ProjectBuilder}. Projects are pooled by the plugins applied to
+ * them, the project name and the project layout. All projects share a single Gradle user home directory, which is
+ * also used by {@link ProjectTemplate}.
+ * <p>
+ * The {@link ProjectBuilder} binds a project to the thread that creates it by having that thread hold the project's
+ * state lock. A project used on any other thread blocks or fails when it is evaluated or its configurations are
+ * resolved. Therefore, projects are always built on the thread that acquires them, and each thread has its own
+ * pool so that a released project is only reused by the thread that built it.
+ * </p>
+ * <p>
+ * The {@link PooledProjectState state} of a project is captured when it is acquired. When the project is released,
+ * it is returned to the pool only if its state is unchanged. Projects whose state has changed are discarded.
+ * </p>
+ */
+final class ProjectPool {
+
+    /**
+     * Layout of a pooled project.
+     *
+     * @param template Directory whose contents are placed in the project directory using a {@link ProjectTemplate},
+     *      or an empty string for an empty project directory
+     * @param subprojects Names of the child projects to create in the project
+     */
+    record Layout(String template, List<String> subprojects) {
+
+        /** Layout of a project with an empty project directory and no subprojects. */
+        static final Layout EMPTY = new Layout("", List.of());
+    }
+
+    /**
+     * Identifies projects that can be used interchangeably.
+     *
+     * @param plugins Identifiers of the plugins applied to the project in the order they are applied. The plugins
+     *      are applied to the root project only.
+     * @param name Name of the project
+     * @param layout Layout of the project
+     */
+    record Key(List<String> plugins, String name, Layout layout) {
+
+        /**
+         * Identifies projects with the {@link Layout#EMPTY empty layout}.
+         *
+         * @param plugins Identifiers of the plugins applied to the project in the order they are applied
+         * @param name Name of the project
+         */
+        Key(final List<String> plugins, final String name) {
+            this(plugins, name, Layout.EMPTY);
+        }
+    }
+
+    /**
+     * A pooled project along with the tasks that have been realized in it and its subprojects.
+     */
+    private static final class Entry {
+        private final Key key;
+        private final Project project;
+        private final Map<String, Task> realizedTasks;
+        @Nullable
+        private PooledProjectState state;
+
+        Entry(final Key key, final Project project) {
+            this.key = key;
+            this.project = project;
+            this.realizedTasks = new ConcurrentSkipListMap<>();
+            project.getAllprojects()
+                   .forEach(p -> p.getTasks().configureEach(task -> this.realizedTasks.put(task.getPath(), task)));
+        }
+
+        PooledProjectState captureState() {
+            return PooledProjectState.capture(this.project, List.copyOf(this.realizedTasks.values()));
+        }
+    }
+
+    private static final ProjectPool INSTANCE = new ProjectPool();
+
+    private final ThreadLocal<Map<Key, Deque<Entry>>> pools;
+    private final ThreadLocal<Map<Project, Entry>> leases;
+    @Nullable
+    private File userHomeDir;
+    private boolean warm;
+
+    private ProjectPool() {
+        this.pools = ThreadLocal.withInitial(HashMap::new);
+        this.leases = ThreadLocal.withInitial(IdentityHashMap::new);
+    }
+
+    /**
+     * Obtains the pool shared by all tests in the JVM.
+     *
+     * @return Project pool.
+     */
+    static ProjectPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtains a project from the pool of the current thread. If a project is not available, one is built on the
+     * current thread. The state of the project is captured so that it can be checked when the project is released.
+     *
+     * @param key Identifies the type of project to obtain
+     * @return Project from the pool.
+     */
+    Project acquire(final Key key) {
+        final Deque<Entry> pool = this.pools.get().get(key);
+        Entry entry = (pool == null) ? null : pool.pollFirst();
+        if (entry == null) {
+            entry = new Entry(key, build(key));
+        }
+        entry.state = entry.captureState();
+        this.leases.get().put(entry.project, entry);
+        return entry.project;
+    }
+
+    /**
+     * Returns a project to the pool of the current thread for use by another test running on the thread. The project
+     * is only returned to the pool if its state is the same as when it was acquired. Otherwise, it is discarded.
+     *
+     * @param project Project to return to the pool. The project must have been acquired on the current thread.
+     * @return {@code true} if the project was returned to the pool, {@code false} if it was discarded.
+     */
+    boolean release(final Project project) {
+        final Entry entry = this.leases.get().remove(project);
+        if (entry == null || entry.state == null || !entry.state.isUnchanged(entry.captureState())) {
+            return false;
+        }
+        this.pools.get().computeIfAbsent(entry.key, k -> new ArrayDeque<>()).addFirst(entry);
+        return true;
+    }
+
+    /**
+     * Discards a project acquired on the current thread without checking its state.
+     *
+     * @param project Project to discard
+     */
+    void discard(final Project project) {
+        this.leases.get().remove(project);
+    }
+
+    private Project build(final Key key) {
+        final Layout layout = key.layout();
+        final Project project = layout.template().isEmpty()
+                                ? ProjectBuilder.builder()
+                                                .withName(key.name())
+                                                .withGradleUserHomeDir(getUserHomeDir())
+                                                .build()
+                                : ProjectTemplate.of(Path.of(layout.template())).newProject(key.name());
+        for (final String subproject : layout.subprojects()) {
+            ProjectBuilder.builder()
+                          .withName(subproject)
+                          .withParent(project)
+                          .withGradleUserHomeDir(getUserHomeDir())
+                          .build();
+        }
+        key.plugins().forEach(project.getPluginManager()::apply);
+        return project;
+    }
+
+    /**
+     * Obtains the Gradle user home directory shared by all pooled projects. The directory is created the first time
+     * it is requested and is deleted when the JVM exits.
+     *
+     * @return Shared Gradle user home directory.
+     */
+    synchronized File getUserHomeDir() {
+        if (this.userHomeDir == null) {
+            this.userHomeDir = createTempDirectory("assertj-gradle-user-home").toFile();
+        }
+        return this.userHomeDir;
+    }
+
+    /**
+     * Ensures that the shared Gradle user home directory has been initialized by building a project that uses it.
+     * Building the first project in a JVM extracts and indexes the Gradle API, so subsequent projects build quickly.
+     */
+    synchronized void warmUp() {
+        if (!this.warm) {
+            ProjectBuilder.builder().withGradleUserHomeDir(getUserHomeDir()).build();
+            this.warm = true;
+        }
+    }
+
+    /**
+     * Creates a temporary directory that is deleted, along with its contents, when the JVM exits.
+     *
+     * @param prefix Prefix for the name of the directory
+     * @return Newly created temporary directory.
+     */
+    static Path createTempDirectory(final String prefix) {
+        try {
+            final Path dir = Files.createTempDirectory(prefix);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> delete(dir)));
+            return dir;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void delete(final Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            // Read only files cannot be deleted on some platforms
+            paths.sorted(Comparator.reverseOrder())
+                 .map(Path::toFile)
+                 .filter(file -> file.setWritable(true))
+                 .forEach(File::delete);
+        } catch (final IOException ignore) {
+            // Best effort removal of the temporary directory
+        }
+    }
+}
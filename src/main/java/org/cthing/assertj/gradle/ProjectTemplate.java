@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+
+
+/**
+ * Template for Gradle projects that require files on disk (e.g. build scripts, sources, resources). The template
+ * directory is captured and the Gradle user home directory is initialized once per JVM. Each call to
+ * {@link #newProject()} then creates a project in its own directory populated from the template. Files are
+ * hard linked into the project directory where the file system supports it, and copied otherwise, so creating a
+ * project takes milliseconds regardless of the size of the template. For example:
+ * <pre>
+ * final ProjectTemplate template = ProjectTemplate.of(Path.of("src/test/resources/sample-project"));
+ * final Project project = template.newProject();
+ * assertThat(project).hasProjectFile("src/main/java/Sample.java");
+ * </pre>
+ * Because hard linked files share their contents with the template, the template files are made read only. A test
+ * that needs to change a file must replace it (i.e. delete it and write a new file) rather than modify it in
+ * place. New files, such as those written to the build directory, can be created freely. If the template files
+ * cannot be protected (e.g. when running as root, which can write to read only files), or the file system does not
+ * support hard links, the files are copied instead.
+ */
+public final class ProjectTemplate {
+
+    private static final Map<Path, ProjectTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final Path templateDir;
+    private final Path workDir;
+    private final AtomicInteger projectCount;
+    private final boolean linkable;
+
+    private ProjectTemplate(final Path sourceDir) {
+        this.workDir = ProjectPool.createTempDirectory("assertj-gradle-template");
+        this.templateDir = this.workDir.resolve("template");
+        this.projectCount = new AtomicInteger();
+
+        populate(sourceDir, this.templateDir, false);
+        this.linkable = makeReadOnly(this.templateDir) && canLink(this.templateDir, this.workDir);
+        ProjectPool.getInstance().warmUp();
+    }
+
+    /**
+     * Obtains the template for the specified directory. The contents of the directory are captured the first time
+     * a template is requested for it. Subsequent requests for the same directory return the same template.
+     *
+     * @param sourceDir Directory containing the files to place in each project created from the template
+     * @return Template for the directory.
+     */
+    public static ProjectTemplate of(final Path sourceDir) {
+        return TEMPLATES.computeIfAbsent(sourceDir.toAbsolutePath().normalize(), ProjectTemplate::new);
+    }
+
+    /**
+     * Creates a project named "test" whose directory is populated from the template.
+     *
+     * @return Newly created project.
+     */
+    public Project newProject() {
+        return newProject("test");
+    }
+
+    /**
+     * Creates a project with the specified name whose directory is populated from the template.
+     *
+     * @param name Name for the project
+     * @return Newly created project.
+     */
+    public Project newProject(final String name) {
+        final Path projectDir = this.workDir.resolve("project" + this.projectCount.incrementAndGet());
+        populate(this.templateDir, projectDir, this.linkable);
+        return ProjectBuilder.builder()
+                             .withName(name)
+                             .withProjectDir(projectDir.toFile())
+                             .withGradleUserHomeDir(ProjectPool.getInstance().getUserHomeDir())
+                             .build();
+    }
+
+    private static void populate(final Path sourceDir, final Path targetDir, final boolean link) {
+        try {
+            Files.walkFileTree(sourceDir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                        throws IOException {
+                    Files.createDirectories(targetDir.resolve(sourceDir.relativize(dir).toString()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs)
+                        throws IOException {
+                    final Path target = targetDir.resolve(sourceDir.relativize(file).toString());
+                    if (link) {
+                        Files.createLink(target, file);
+                    } else {
+                        Files.copy(file, target);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Indicates whether the files in the template directory can be hard linked into the project directories. This is
+     * determined once by linking a template file into the working directory, which contains the project directories,
+     * so that the decision does not depend on the operating system's description of a failure. Any failure of the
+     * trial link (e.g. because the file system does not support hard links) means that files are copied. Once the
+     * trial succeeds, a failure to link a file into a project directory is a genuine error and is reported.
+     *
+     * @param templateDir Directory containing the template files
+     * @param workDir Directory in which the project directories are created
+     * @return {@code true} if the template files can be hard linked.
+     */
+    private static boolean canLink(final Path templateDir, final Path workDir) {
+        final Path file;
+        try (Stream<Path> paths = Files.walk(templateDir)) {
+            file = paths.filter(Files::isRegularFile).findFirst().orElse(null);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (file == null) {
+            return false;
+        }
+
+        final Path probe = workDir.resolve("link-probe");
+        try {
+            Files.createLink(probe, file);
+        } catch (final UnsupportedOperationException | IOException ex) {
+            return false;
+        }
+        try {
+            Files.delete(probe);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return true;
+    }
+
+    /**
+     * Makes the files in the specified directory read only.
+     *
+     * @param dir Directory whose files are to be made read only
+     * @return {@code true} if the files are protected from modification. Setting a file read only does not protect
+     *      it from a privileged user (e.g. root), in which case {@code false} is returned and the files must be
+     *      copied rather than linked.
+     */
+    private static boolean makeReadOnly(final Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            boolean protectedFiles = true;
+            for (final Path file : paths.filter(Files::isRegularFile).toList()) {
+                if (!file.toFile().setReadOnly()) {
+                    throw new IllegalStateException("Could not make template file read only: " + file);
+                }
+                protectedFiles &= !Files.isWritable(file);
+            }
+            return protectedFiles;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.gradle.api.Transformer;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Profile of a chain of {@link org.gradle.api.provider.Provider#map(Transformer) map} and
+ * {@link org.gradle.api.provider.Provider#flatMap(Transformer) flatMap} calls. Each call adds a stage to the chain
+ * whose transformer is wrapped to record the number of times it is invoked and the time spent in it. The time of a
+ * stage does not include the time taken to evaluate the upstream providers. For a flatMap stage, the time is that
+ * taken to create the provider returned by the transformer.
+ */
+final class ProviderChainProfile {
+
+    /**
+     * A map or flatMap call in the provider chain.
+     */
+    static final class Stage {
+        private final String name;
+        private final AtomicInteger invocations;
+        private final AtomicLong elapsedNanos;
+
+        private Stage(final String name) {
+            this.name = name;
+            this.invocations = new AtomicInteger();
+            this.elapsedNanos = new AtomicLong();
+        }
+
+        /**
+         * Wraps the specified transformer to record its invocations.
+         *
+         * @param <OUT> Type of the transformed value
+         * @param <IN> Type of the value to transform
+         * @param transformer Transformer to wrap
+         * @return Transformer that records its invocations in this stage.
+         */
+        <OUT, IN> Transformer<@Nullable OUT, IN> timed(
+                final Transformer<? extends @Nullable OUT, ? super IN> transformer) {
+            return value -> {
+                final long start = System.nanoTime();
+                try {
+                    return transformer.transform(value);
+                } finally {
+                    this.elapsedNanos.addAndGet(System.nanoTime() - start);
+                    this.invocations.incrementAndGet();
+                }
+            };
+        }
+
+        /**
+         * Obtains the name of the stage (e.g. "map #1").
+         *
+         * @return Name of the stage.
+         */
+        String getName() {
+            return this.name;
+        }
+
+        /**
+         * Obtains the number of times the transformer of the stage has been invoked.
+         *
+         * @return Number of invocations.
+         */
+        int getInvocations() {
+            return this.invocations.get();
+        }
+
+        /**
+         * Obtains the total time spent in the transformer of the stage.
+         *
+         * @return Time spent in the stage.
+         */
+        Duration getDuration() {
+            return Duration.ofNanos(this.elapsedNanos.get());
+        }
+
+        private void reset() {
+            this.invocations.set(0);
+            this.elapsedNanos.set(0);
+        }
+    }
+
+    private final List<Stage> stages;
+
+    /**
+     * Constructs an empty profile.
+     */
+    ProviderChainProfile() {
+        this.stages = List.of();
+    }
+
+    private ProviderChainProfile(final List<Stage> stages) {
+        this.stages = List.copyOf(stages);
+    }
+
+    /**
+     * Creates a profile consisting of the stages of this profile followed by a new stage. This profile is not
+     * modified, so that separate chains can be built from a common provider.
+     *
+     * @param operation Name of the operation that creates the stage (e.g. "map")
+     * @return New profile whose last stage is the new stage.
+     */
+    ProviderChainProfile withStage(final String operation) {
+        final List<Stage> extended = new ArrayList<>(this.stages);
+        extended.add(new Stage(operation + " #" + (this.stages.size() + 1)));
+        return new ProviderChainProfile(extended);
+    }
+
+    /**
+     * Obtains the last stage of the chain.
+     *
+     * @return Last stage of the chain.
+     * @throws IllegalStateException if the chain has no stages
+     */
+    Stage getLastStage() {
+        if (this.stages.isEmpty()) {
+            throw new IllegalStateException("Provider chain has no stages");
+        }
+        return this.stages.get(this.stages.size() - 1);
+    }
+
+    /**
+     * Obtains the number of map and flatMap calls in the chain.
+     *
+     * @return Depth of the chain.
+     */
+    int getDepth() {
+        return this.stages.size();
+    }
+
+    /**
+     * Clears the invocations recorded by all stages.
+     */
+    void reset() {
+        this.stages.forEach(Stage::reset);
+    }
+
+    /**
+     * Creates a breakdown of the chain with one line per stage.
+     *
+     * @return Per stage breakdown of the chain.
+     */
+    String format() {
+        final StringBuilder buffer = new StringBuilder();
+        for (final Stage stage : this.stages) {
+            buffer.append("\n  ")
+                  .append(stage.getName())
+                  .append(": ")
+                  .append(stage.getInvocations())
+                  .append(" invocations, ")
+                  .append(stage.getDuration().toMillis())
+                  .append(" ms");
+        }
+        return buffer.toString();
+    }
+}
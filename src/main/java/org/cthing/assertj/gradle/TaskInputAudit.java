@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.model.ReplacedBy;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.CompileClasspath;
+import org.gradle.api.tasks.Console;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.OutputDirectories;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.OutputFiles;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Audits the input and output properties of a task type. The getters and Groovy property fields in the type's
+ * hierarchy that are annotated as inputs or outputs are checked for:
+ * <ul>
+ *     <li>eager types (e.g. {@code String}, {@code File}) rather than {@link Provider} or {@link FileCollection}
+ *         types</li>
+ *     <li>file inputs without a {@link PathSensitive} annotation or classpath normalization, which makes their
+ *         absolute paths part of the task's cache key</li>
+ *     <li>{@link SkipWhenEmpty} file inputs without an {@link IgnoreEmptyDirectories} annotation</li>
+ * </ul>
+ * The types of {@link Nested} properties, including the value types of nested {@link Provider} properties (e.g.
+ * {@code Property<Options>}), are audited recursively. Members declared by JDK and Groovy classes are ignored. The
+ * results of the audit are cached for each class.
+ */
+final class TaskInputAudit {
+
+    private static final List<Class<? extends Annotation>> VALUE_ANNOTATIONS = List.of(Input.class);
+    private static final List<Class<? extends Annotation>> FILE_INPUT_ANNOTATIONS =
+            List.of(InputFile.class, InputFiles.class, InputDirectory.class, Classpath.class, CompileClasspath.class);
+    private static final List<Class<? extends Annotation>> OUTPUT_ANNOTATIONS =
+            List.of(OutputFile.class, OutputFiles.class, OutputDirectory.class, OutputDirectories.class);
+    private static final List<Class<? extends Annotation>> IGNORED_ANNOTATIONS =
+            List.of(Internal.class, ReplacedBy.class, Console.class);
+
+    private static final ClassValue<Set<String>> ISSUES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(final Class<?> type) {
+            final Set<String> issues = new TreeSet<>();
+            audit(type, "", new HashSet<>(), issues);
+            return Collections.unmodifiableSet(issues);
+        }
+    };
+
+    private TaskInputAudit() {
+    }
+
+    /**
+     * Obtains descriptions of the issues found with the input and output properties of the specified type.
+     *
+     * @param type Task type to audit
+     * @return Descriptions of the issues in sorted order. Empty if no issues were found.
+     */
+    static Set<String> findIssues(final Class<?> type) {
+        return ISSUES.get(type);
+    }
+
+    private static void audit(final Class<?> type, final String prefix, final Set<Class<?>> visited,
+                              final Set<String> issues) {
+        if (!visited.add(type)) {
+            return;
+        }
+
+        for (final Map.Entry<String, AnnotatedElement> property : findProperties(type).entrySet()) {
+            final String name = prefix + property.getKey();
+            final AnnotatedElement element = property.getValue();
+            if (findAnnotation(element, IGNORED_ANNOTATIONS) != null) {
+                continue;
+            }
+
+            final Class<?> propertyType = (element instanceof Method method) ? method.getReturnType()
+                                                                             : ((Field)element).getType();
+
+            final Class<? extends Annotation> valueAnnotation = findAnnotation(element, VALUE_ANNOTATIONS);
+            final Class<? extends Annotation> fileInputAnnotation = findAnnotation(element, FILE_INPUT_ANNOTATIONS);
+            final Class<? extends Annotation> outputAnnotation = findAnnotation(element, OUTPUT_ANNOTATIONS);
+
+            if (valueAnnotation != null && !Provider.class.isAssignableFrom(propertyType)) {
+                issues.add(describe(name, valueAnnotation) + " has eager type " + propertyType.getTypeName());
+            }
+
+            final Class<? extends Annotation> fileAnnotation =
+                    (fileInputAnnotation != null) ? fileInputAnnotation : outputAnnotation;
+            if (fileAnnotation != null && !isLazyFileType(propertyType)) {
+                issues.add(describe(name, fileAnnotation) + " has eager type " + propertyType.getTypeName());
+            }
+
+            if (fileInputAnnotation != null && fileInputAnnotation != Classpath.class
+                    && fileInputAnnotation != CompileClasspath.class) {
+                if (!element.isAnnotationPresent(PathSensitive.class)) {
+                    issues.add(describe(name, fileInputAnnotation) + " is missing @PathSensitive");
+                }
+                if (element.isAnnotationPresent(SkipWhenEmpty.class)
+                        && !element.isAnnotationPresent(IgnoreEmptyDirectories.class)) {
+                    issues.add(describe(name, fileInputAnnotation)
+                                       + " is @SkipWhenEmpty but is missing @IgnoreEmptyDirectories");
+                }
+            }
+
+            if (element.isAnnotationPresent(Nested.class)) {
+                final Class<?> nestedType = Provider.class.isAssignableFrom(propertyType)
+                                            ? providedType(element) : propertyType;
+                if (nestedType != null && !nestedType.isPrimitive() && !AuditFilters.isIgnored(nestedType)) {
+                    audit(nestedType, name + ".", visited, issues);
+                }
+            }
+        }
+
+        visited.remove(type);
+    }
+
+    /**
+     * Finds the annotated getters and fields in the hierarchy of the specified type. A getter or field declared in
+     * a subclass takes precedence over one with the same property name declared in a superclass, so that a property
+     * can be overridden as {@code @Internal}.
+     *
+     * @param type Type whose properties are to be found
+     * @return Annotated getters and fields keyed by property name.
+     */
+    private static Map<String, AnnotatedElement> findProperties(final Class<?> type) {
+        final Map<String, AnnotatedElement> properties = new TreeMap<>();
+        for (final Class<?> declaringType : findHierarchy(type)) {
+            for (final Method method : declaringType.getDeclaredMethods()) {
+                final String propertyName = propertyName(method);
+                if (propertyName != null && isAnnotated(method)) {
+                    properties.putIfAbsent(propertyName, method);
+                }
+            }
+            for (final Field field : declaringType.getDeclaredFields()) {
+                if (!field.isSynthetic() && !Modifier.isStatic(field.getModifiers()) && isAnnotated(field)) {
+                    properties.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static List<Class<?>> findHierarchy(final Class<?> type) {
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        final List<Class<?>> interfaces = new ArrayList<>();
+        for (Class<?> current = type; current != null && !AuditFilters.isIgnored(current);
+             current = current.getSuperclass()) {
+            hierarchy.add(current);
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        for (int i = 0; i < interfaces.size(); i++) {
+            final Class<?> iface = interfaces.get(i);
+            if (!AuditFilters.isIgnored(iface) && !hierarchy.contains(iface)) {
+                hierarchy.add(iface);
+                Collections.addAll(interfaces, iface.getInterfaces());
+            }
+        }
+        return hierarchy;
+    }
+
+    @Nullable
+    private static String propertyName(final Method method) {
+        if (method.isSynthetic() || method.isBridge() || Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 0) {
+            return null;
+        }
+
+        final String name = method.getName();
+        final int prefixLength = name.startsWith("get") ? 3 : (name.startsWith("is") ? 2 : 0);
+        if (prefixLength == 0 || name.length() == prefixLength) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefixLength)) + name.substring(prefixLength + 1);
+    }
+
+    private static boolean isAnnotated(final AnnotatedElement element) {
+        return element.isAnnotationPresent(Nested.class)
+                || findAnnotation(element, IGNORED_ANNOTATIONS) != null
+                || findAnnotation(element, VALUE_ANNOTATIONS) != null
+                || findAnnotation(element, FILE_INPUT_ANNOTATIONS) != null
+                || findAnnotation(element, OUTPUT_ANNOTATIONS) != null;
+    }
+
+    @Nullable
+    private static Class<? extends Annotation> findAnnotation(final AnnotatedElement element,
+                                                              final List<Class<? extends Annotation>> annotations) {
+        for (final Class<? extends Annotation> annotation : annotations) {
+            if (element.isAnnotationPresent(annotation)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtains the type of the value provided by a {@link Provider} property (e.g. {@code Options} for a property of
+     * type {@code Property<Options>}).
+     *
+     * @param element Getter or field of the property
+     * @return Type of the provided value, or {@code null} if the property type does not have a single type argument.
+     */
+    @Nullable
+    private static Class<?> providedType(final AnnotatedElement element) {
+        final Type type = (element instanceof Method method) ? method.getGenericReturnType()
+                                                             : ((Field)element).getGenericType();
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments().length == 1) {
+            final Type argument = parameterizedType.getActualTypeArguments()[0];
+            if (argument instanceof Class<?> argumentClass) {
+                return argumentClass;
+            }
+            if (argument instanceof ParameterizedType parameterizedArgument
+                    && parameterizedArgument.getRawType() instanceof Class<?> argumentClass) {
+                return argumentClass;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLazyFileType(final Class<?> type) {
+        return Provider.class.isAssignableFrom(type) || FileCollection.class.isAssignableFrom(type);
+    }
+
+    private static String describe(final String propertyName, final Class<? extends Annotation> annotation) {
+        return propertyName + " (@" + annotation.getSimpleName() + ")";
+    }
+}
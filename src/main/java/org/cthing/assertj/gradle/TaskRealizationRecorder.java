@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.tasks.TaskContainer;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Records the tasks that are realized (i.e. created and configured) in a Gradle {@link Project}. The recorder must
+ * be installed before the project is configured (e.g. before a plugin is applied). Once installed, the
+ * {@link GradleProjectAssert#realizedOnlyTasks(String, String...)} and
+ * {@link GradleProjectAssert#hasNoEagerlyRealizedTasks()} assertions can be used to verify that configuring the
+ * project did not realize more tasks than necessary. For example:
+ * <pre>
+ * TaskRealizationRecorder.install(project);
+ * project.getPluginManager().apply("org.example.my-plugin");
+ * assertThat(project).hasNoEagerlyRealizedTasks();
+ * </pre>
+ * Tasks that were already realized when the recorder was installed are not considered.
+ */
+public final class TaskRealizationRecorder {
+
+    /**
+     * Recorders keyed by the task container of their project. Projects with the same path are equal, so a project
+     * cannot be used as the key. The task container is unique to each project.
+     */
+    private static final Map<TaskContainer, TaskRealizationRecorder> RECORDERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, StackTraceElement> realizedTasks;
+    private volatile boolean installing;
+
+    private TaskRealizationRecorder() {
+        this.realizedTasks = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Installs a task realization recorder on the specified project. If a recorder has already been installed on
+     * the project, that recorder is returned.
+     *
+     * @param project Project whose task realizations are to be recorded
+     * @return Recorder for the project.
+     */
+    public static TaskRealizationRecorder install(final Project project) {
+        synchronized (RECORDERS) {
+            final TaskRealizationRecorder existing = RECORDERS.get(project.getTasks());
+            if (existing != null) {
+                return existing;
+            }
+
+            // Tasks realized before the recorder is installed are reported to the action immediately and ignored.
+            final TaskRealizationRecorder recorder = new TaskRealizationRecorder();
+            recorder.installing = true;
+            try {
+                project.getTasks().configureEach(recorder::taskRealized);
+            } finally {
+                recorder.installing = false;
+            }
+
+            RECORDERS.put(project.getTasks(), recorder);
+            return recorder;
+        }
+    }
+
+    /**
+     * Obtains the recorder installed on the specified project.
+     *
+     * @param project Project whose recorder is desired
+     * @return Recorder for the project or {@code null} if a recorder has not been installed on the project.
+     */
+    @Nullable
+    static TaskRealizationRecorder find(final Project project) {
+        return RECORDERS.get(project.getTasks());
+    }
+
+    /**
+     * Obtains the names of the tasks realized since the recorder was installed.
+     *
+     * @return Names of the realized tasks in sorted order.
+     */
+    public Set<String> getRealizedTaskNames() {
+        return Collections.unmodifiableSet(this.realizedTasks.keySet());
+    }
+
+    /**
+     * Obtains the location in the code that caused the specified task to be realized. Gradle and JDK stack frames
+     * are skipped so that the location is typically in the plugin or build logic that realized the task.
+     *
+     * @param taskName Name of the realized task
+     * @return Location in the code that caused the task to be realized, or {@code null} if the task has not been
+     *      realized since the recorder was installed.
+     */
+    @Nullable
+    public StackTraceElement getRealizationSite(final String taskName) {
+        return this.realizedTasks.get(taskName);
+    }
+
+    /**
+     * Creates a report of the specified realized tasks and where they were realized.
+     *
+     * @param taskNames Names of the realized tasks to report
+     * @return Report with one line per task.
+     */
+    String report(final Set<String> taskNames) {
+        final StringBuilder buffer = new StringBuilder();
+        for (final String taskName : taskNames) {
+            buffer.append("\n  ")
+                  .append(taskName)
+                  .append(" realized at ")
+                  .append(this.realizedTasks.get(taskName));
+        }
+        return buffer.toString();
+    }
+
+    private void taskRealized(final Task task) {
+        if (!this.installing) {
+            this.realizedTasks.putIfAbsent(task.getName(), CallSites.find());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.gradle.api.Project;
+import org.gradle.api.provider.Provider;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+public class CountingProvidersTest {
+
+    private Project project;
+
+    @BeforeEach
+    public void setup() {
+        this.project = ProjectBuilder.builder().build();
+    }
+
+    @Test
+    public void testProvider() {
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "a");
+        assertThat(CountingProviders.getEvaluationCount(provider)).isZero();
+        assertThat(provider.get()).isEqualTo("a");
+        assertThat(provider.getOrNull()).isEqualTo("a");
+        assertThat(CountingProviders.getEvaluationCount(provider)).isEqualTo(2);
+    }
+
+    @Test
+    public void testMap() {
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "a");
+        final Provider<@NonNull String> mapped = CountingProviders.map(provider, value -> value + "b");
+        assertThat(mapped.get()).isEqualTo("ab");
+        assertThat(CountingProviders.getEvaluationCount(mapped)).isEqualTo(1);
+        assertThat(CountingProviders.getEvaluationCount(provider)).isEqualTo(1);
+    }
+
+    @Test
+    public void testSiteCounts() {
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "a");
+        for (int i = 0; i < 1000; i++) {
+            provider.get();
+        }
+        final CountingProviders.Counter counter = Objects.requireNonNull(CountingProviders.find(provider));
+        assertThat(counter.getCount()).isEqualTo(1000);
+        assertThat(counter.getSiteCounts()).hasSize(1);
+        assertThat(counter.report()).startsWith("\n  evaluated 1000 times at " + CountingProvidersTest.class.getName());
+
+        final Map<StackTraceElement, Integer> baseline = counter.getSiteCounts();
+        assertThat(counter.report(baseline)).isEmpty();
+        provider.get();
+        assertThat(counter.report(baseline)).startsWith("\n  evaluated at " + CountingProvidersTest.class.getName());
+    }
+
+    @Test
+    public void testUncounted() {
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "a");
+        assertThat(CountingProviders.uncounted(provider::get)).isEqualTo("a");
+        assertThat(CountingProviders.getEvaluationCount(provider)).isZero();
+    }
+
+    @Test
+    public void testNotCounting() {
+        final Provider<@NonNull String> provider = this.project.provider(() -> "a");
+        assertThat(CountingProviders.find(provider)).isNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> CountingProviders.getEvaluationCount(provider));
+    }
+}
@@ -7,28 +7,36 @@ package org.cthing.assertj.gradle;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemLoopException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import org.gradle.api.Project;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
 
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class GradleDirectoryAssertTest {
 
+    private Project project;
     private DirectoryProperty directory;
     private File file1;
     private File file2;
 
     @BeforeEach
     public void setup() throws IOException {
-        final Project project = ProjectBuilder.builder().build();
-        final File testDir = new File(project.getProjectDir(), "test");
+        this.project = ProjectBuilder.builder().build();
+        final File testDir = new File(this.project.getProjectDir(), "test");
         testDir.mkdirs();
 
         this.file1 = new File(testDir, "file1.txt");
@@ -36,7 +44,13 @@ public class GradleDirectoryAssertTest {
         this.file2 = new File(testDir, "file2.txt");
         Files.writeString(this.file2.toPath(), "Goodbye World");
 
-        this.directory = project.getObjects().directoryProperty().fileValue(testDir);
+        final File classesDir = new File(testDir, "classes/org/example");
+        classesDir.mkdirs();
+        Files.writeString(new File(classesDir, "Foo.class").toPath(), "Foo");
+        Files.writeString(new File(classesDir, "Bar.class").toPath(), "Bar");
+        Files.writeString(new File(classesDir, "Bar.tmp").toPath(), "Bar");
+
+        this.directory = this.project.getObjects().directoryProperty().fileValue(testDir);
     }
 
     @Test
@@ -56,4 +70,261 @@ public class GradleDirectoryAssertTest {
                                   .contains(this.file1)
                                   .contains(this.file2);
     }
+
+    @Test
+    public void testContainsOnlyMatching() {
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        dirAssert.containsOnlyMatching("*.txt", "**/*.class", "**/*.tmp");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.containsOnlyMatching("**/*.class"))
+                .withMessage("Expected directory '" + this.directory.get().getAsFile() + "' to contain only files "
+                                     + "matching [**/*.class], but 3 files do not match:\n"
+                                     + "  classes/org/example/Bar.tmp\n"
+                                     + "  file1.txt\n"
+                                     + "  file2.txt");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.containsOnlyMatching("**/*.class", "*.txt"))
+                .withMessage("Expected directory '" + this.directory.get().getAsFile() + "' to contain only files "
+                                     + "matching [**/*.class, *.txt], but 1 file does not match:\n"
+                                     + "  classes/org/example/Bar.tmp");
+    }
+
+    @Test
+    public void testHasFileCountMatching() {
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        dirAssert.hasFileCountMatching("**/*.class", 2)
+                 .hasFileCountMatching("*.txt", 2)
+                 .hasFileCountMatching("classes/**", 3)
+                 .hasFileCountMatching("*.class", 0);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.hasFileCountMatching("**/*.class", 3))
+                .withMessage("Expected directory '" + this.directory.get().getAsFile() + "' to contain 3 files "
+                                     + "matching '**/*.class', but it contains 2");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.hasFileCountMatching("*.txt", 1))
+                .withMessage("Expected directory '" + this.directory.get().getAsFile() + "' to contain 1 file "
+                                     + "matching '*.txt', but it contains 2");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dirAssert.hasFileCountMatching("*.txt", -1))
+                .withMessage("The number of files must not be negative.");
+    }
+
+    @Test
+    public void testHasNoFilesMatching() {
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        dirAssert.hasNoFilesMatching("**/*.bak", "*.class");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.hasNoFilesMatching("**/*.bak", "**/*.tmp"))
+                .withMessage("Expected directory '" + this.directory.get().getAsFile() + "' to contain no files "
+                                     + "matching [**/*.bak, **/*.tmp], but 1 file matches:\n"
+                                     + "  classes/org/example/Bar.tmp");
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void testSymbolicLinkLoop() throws IOException {
+        final Path testDir = this.project.file("test").toPath();
+        Files.createSymbolicLink(testDir.resolve("classes/loop"), testDir);
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> dirAssert.containsOnlyMatching("**/*"))
+                .withCauseInstanceOf(FileSystemLoopException.class);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void testDanglingSymbolicLink() throws IOException {
+        final Path testDir = this.project.file("test").toPath();
+        Files.createSymbolicLink(testDir.resolve("dangling.txt"), testDir.resolve("missing.txt"));
+        Files.createSymbolicLink(testDir.resolve("classes/org/example/dangling.txt"), testDir.resolve("missing.txt"));
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        dirAssert.containsOnlyMatching("*.txt", "**/*.class", "**/*.tmp")
+                 .hasFileCountMatching("**/*.txt", 2);
+    }
+
+    @Test
+    public void testMatchesFingerprint() throws IOException {
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        final Path manifest = this.project.file("fingerprints/test.sha256").toPath();
+        Files.createDirectories(manifest.getParent());
+        Files.writeString(manifest, """
+                95d64cacce0f0e5b0d1b843862f0accfadb787a4cabb8a88f7f1694ea232a5fc  classes/org/example/Bar.class
+                95d64cacce0f0e5b0d1b843862f0accfadb787a4cabb8a88f7f1694ea232a5fc  classes/org/example/Bar.tmp
+                1cbec737f863e4922cee63cc2ebbfaafcd1cff8b790d8cfd2e6a5d550b648afa  classes/org/example/Foo.class
+                a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e  file1.txt
+                c96724127af2d6f56bbc3898632b101167242f02519a99e5ab3f1cab9ff995e7  file2.txt
+                """);
+        dirAssert.matchesFingerprint(manifest);
+
+        Files.writeString(this.file2.toPath(), "Hello World");
+        Files.delete(new File(this.directory.get().getAsFile(), "classes/org/example/Bar.tmp").toPath());
+        Files.writeString(new File(this.directory.get().getAsFile(), "file3.txt").toPath(), "Hello World");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.matchesFingerprint(manifest))
+                .withMessage("Expected directory '" + this.directory.get().getAsFile() + "' to match fingerprint "
+                                     + "manifest '" + manifest + "', but it does not:\n"
+                                     + "Changed files (1):\n"
+                                     + "  file2.txt\n"
+                                     + "Missing files (1):\n"
+                                     + "  classes/org/example/Bar.tmp\n"
+                                     + "Unexpected files (1):\n"
+                                     + "  file3.txt");
+
+        System.setProperty(FileFingerprints.UPDATE_PROPERTY, "true");
+        try {
+            dirAssert.matchesFingerprint(manifest);
+        } finally {
+            System.clearProperty(FileFingerprints.UPDATE_PROPERTY);
+        }
+        dirAssert.matchesFingerprint(manifest);
+    }
+
+    @Test
+    public void testMatchesFingerprintBinaryMode() throws IOException {
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        final Path manifest = this.project.file("fingerprints/binary.sha256").toPath();
+        Files.createDirectories(manifest.getParent());
+        Files.writeString(manifest, """
+                95d64cacce0f0e5b0d1b843862f0accfadb787a4cabb8a88f7f1694ea232a5fc *classes/org/example/Bar.class
+                95d64cacce0f0e5b0d1b843862f0accfadb787a4cabb8a88f7f1694ea232a5fc *classes/org/example/Bar.tmp
+                1cbec737f863e4922cee63cc2ebbfaafcd1cff8b790d8cfd2e6a5d550b648afa *classes/org/example/Foo.class
+                \\a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e *file1.txt
+                c96724127af2d6f56bbc3898632b101167242f02519a99e5ab3f1cab9ff995e7  file2.txt
+                """);
+        dirAssert.matchesFingerprint(manifest);
+
+        Files.writeString(manifest, "a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e +file1.txt\n");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dirAssert.matchesFingerprint(manifest))
+                .withMessage("Malformed line 1 in fingerprint manifest '" + manifest + "': "
+                                     + "a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e +file1.txt");
+
+        Files.writeString(manifest, "a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146  file1.txt\n");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dirAssert.matchesFingerprint(manifest))
+                .withMessage("Malformed line 1 in fingerprint manifest '" + manifest + "': "
+                                     + "a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146  file1.txt");
+
+        Files.writeString(manifest, "g591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e  file1.txt\n");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dirAssert.matchesFingerprint(manifest))
+                .withMessage("Malformed line 1 in fingerprint manifest '" + manifest + "': "
+                                     + "g591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e  file1.txt");
+
+        Files.writeString(manifest, """
+                a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e  file1.txt
+                c96724127af2d6f56bbc3898632b101167242f02519a99e5ab3f1cab9ff995e7  file1.txt
+                """);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dirAssert.matchesFingerprint(manifest))
+                .withMessage("Malformed line 2 in fingerprint manifest '" + manifest + "': "
+                                     + "c96724127af2d6f56bbc3898632b101167242f02519a99e5ab3f1cab9ff995e7  file1.txt");
+    }
+
+    @Test
+    public void testIsEquivalentTo() throws IOException {
+        final GradleDirectoryAssert dirAssert = assertThat(this.directory).get(GradleAssertFactories.DIRECTORY);
+        final File actualDir = this.directory.get().getAsFile();
+        final Path goldenDir = this.project.file("golden").toPath();
+        Files.createDirectories(goldenDir.resolve("classes/org/example"));
+        for (final String path : List.of("file1.txt", "file2.txt", "classes/org/example/Foo.class",
+                                         "classes/org/example/Bar.class", "classes/org/example/Bar.tmp")) {
+            Files.copy(new File(actualDir, path).toPath(), goldenDir.resolve(path));
+        }
+        dirAssert.isEquivalentTo(goldenDir);
+
+        Files.writeString(goldenDir.resolve("file1.txt"), "Hello World\nSecond line\nThird line");
+        Files.writeString(this.file2.toPath(), "Goodbye Gradle");
+        Files.write(new File(actualDir, "classes/org/example/Foo.class").toPath(), new byte[] { 'F', 0, 'o' });
+        Files.delete(new File(actualDir, "classes/org/example/Bar.tmp").toPath());
+        Files.writeString(new File(actualDir, "file3.txt").toPath(), "Hello World");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.isEquivalentTo(goldenDir))
+                .withMessage("Expected directory '" + actualDir + "' to be equivalent to directory '" + goldenDir
+                                     + "', but it is not:\n"
+                                     + "Added files (1):\n"
+                                     + "  file3.txt\n"
+                                     + "Removed files (1):\n"
+                                     + "  classes/org/example/Bar.tmp\n"
+                                     + "Changed files (3):\n"
+                                     + "  classes/org/example/Foo.class (differs at byte 1)\n"
+                                     + "  file1.txt\n"
+                                     + "    line 2: expected \"Second line\" but was <end of file>\n"
+                                     + "    line 3: expected \"Third line\" but was <end of file>\n"
+                                     + "  file2.txt\n"
+                                     + "    line 1: expected \"Goodbye World\" but was \"Goodbye Gradle\"");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.isEquivalentTo(goldenDir, 1))
+                .withMessageContaining("  file1.txt\n"
+                                               + "    line 2: expected \"Second line\" but was <end of file>\n"
+                                               + "    ... more differing lines omitted\n");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.isEquivalentTo(this.project.file("missing").toPath()))
+                .withMessage("Expected directory '" + this.project.file("missing") + "' to exist, but it does not");
+    }
+
+    @Test
+    public void testIsEquivalentToLargeFiles() throws IOException {
+        final Path actualDir = this.project.file("large/actual").toPath();
+        final Path expectedDir = this.project.file("large/expected").toPath();
+        Files.createDirectories(actualDir);
+        Files.createDirectories(expectedDir);
+
+        // Larger than two of the chunks in which large files are compared, and starting with a null byte so that the
+        // files are compared as binary files
+        final byte[] contents = new byte[5 * 512 * 1024 + 123];
+        for (int i = 1; i < contents.length; i++) {
+            contents[i] = (byte)(i % 251);
+        }
+        for (final String name : List.of("same.bin", "early.bin", "late.bin")) {
+            Files.write(actualDir.resolve(name), contents);
+            Files.write(expectedDir.resolve(name), contents);
+        }
+
+        final GradleDirectoryAssert dirAssert =
+                assertThat(this.project.getLayout().getProjectDirectory().dir("large/actual"));
+        dirAssert.isEquivalentTo(expectedDir);
+
+        final int lateOffset = 2 * 1024 * 1024 + 17;
+        contents[lateOffset]++;
+        Files.write(actualDir.resolve("late.bin"), contents);
+        contents[lateOffset]--;
+        contents[5]++;
+        Files.write(actualDir.resolve("early.bin"), contents);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.isEquivalentTo(expectedDir))
+                .withMessage("Expected directory '" + actualDir + "' to be equivalent to directory '"
+                                     + expectedDir + "', but it is not:\n"
+                                     + "Changed files (2):\n"
+                                     + "  early.bin (differs at byte 5)\n"
+                                     + "  late.bin (differs at byte " + lateOffset + ")");
+    }
+
+    @Test
+    public void testIsEquivalentToLineEndings() throws IOException {
+        final Path actualDir = this.project.file("lineEndings/actual").toPath();
+        final Path expectedDir = this.project.file("lineEndings/expected").toPath();
+        Files.createDirectories(actualDir);
+        Files.createDirectories(expectedDir);
+        Files.writeString(actualDir.resolve("crlf.txt"), "first\r\nsecond\r\n");
+        Files.writeString(expectedDir.resolve("crlf.txt"), "first\nsecond\n");
+        Files.writeString(actualDir.resolve("missing.txt"), "first\nsecond");
+        Files.writeString(expectedDir.resolve("missing.txt"), "first\nsecond\n");
+        Files.writeString(actualDir.resolve("unexpected.txt"), "first\n");
+        Files.writeString(expectedDir.resolve("unexpected.txt"), "first");
+
+        final GradleDirectoryAssert dirAssert =
+                assertThat(this.project.getLayout().getProjectDirectory().dir("lineEndings/actual"));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> dirAssert.isEquivalentTo(expectedDir))
+                .withMessage("Expected directory '" + actualDir + "' to be equivalent to directory '"
+                                     + expectedDir + "', but it is not:\n"
+                                     + "Changed files (3):\n"
+                                     + "  crlf.txt (same lines, but line endings are CRLF rather than LF)\n"
+                                     + "  missing.txt (same lines, but the newline at the end of the file is "
+                                     + "missing)\n"
+                                     + "  unexpected.txt (same lines, but there is an unexpected newline at the end "
+                                     + "of the file)");
+    }
 }
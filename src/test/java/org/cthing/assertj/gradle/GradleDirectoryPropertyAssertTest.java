@@ -6,6 +6,7 @@
 package org.cthing.assertj.gradle;
 
 import java.io.File;
+import java.time.Duration;
 
 import org.gradle.api.Project;
 import org.gradle.api.file.DirectoryProperty;
@@ -40,4 +41,14 @@ public class GradleDirectoryPropertyAssertTest {
     public void testGetString() {
         assertThat(this.directory).getString().endsWith("test");
     }
+
+    @Test
+    public void testProfiled() {
+        assertThat(this.directory).profiled()
+                                  .map(dir -> dir.getAsFile().getName())
+                                  .contains("test")
+                                  .chainDepthAtMost(1)
+                                  .totalEvaluationWithin(Duration.ofMinutes(1));
+        assertThat(this.directory).profiled().getDirectory().asFile().isDirectory();
+    }
 }
@@ -8,9 +8,16 @@ package org.cthing.assertj.gradle;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
 
+import org.assertj.core.api.Assertions;
 import org.gradle.api.Project;
 import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileTree;
 import org.gradle.api.provider.Provider;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.jspecify.annotations.NonNull;
@@ -23,6 +30,7 @@ import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
 
 public class GradleFileCollectionAssertTest {
 
+    private Project project;
     private File file1;
     private File file2;
     private FileCollection multiple;
@@ -32,19 +40,19 @@ public class GradleFileCollectionAssertTest {
 
     @BeforeEach
     public void setup() throws IOException {
-        final Project project = ProjectBuilder.builder().build();
+        this.project = ProjectBuilder.builder().build();
 
-        this.file1 = project.file("test1.txt");
+        this.file1 = this.project.file("test1.txt");
         Files.writeString(this.file1.toPath(), "Hello World");
 
-        this.file2 = project.file("test2.txt");
+        this.file2 = this.project.file("test2.txt");
         Files.writeString(this.file2.toPath(), "Goodbye World");
 
-        this.multiple = project.files(this.file1, this.file2);
-        this.single = project.files(this.file2);
-        this.empty = project.files();
+        this.multiple = this.project.files(this.file1, this.file2);
+        this.single = this.project.files(this.file2);
+        this.empty = this.project.files();
 
-        this.provider = project.provider(() -> this.multiple);
+        this.provider = this.project.provider(() -> this.multiple);
     }
 
     @Test
@@ -66,6 +74,40 @@ public class GradleFileCollectionAssertTest {
         assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(this.empty).contains(this.file1));
     }
 
+    @Test
+    public void testContainsAll() {
+        assertThat(this.multiple).containsAll(List.of(this.file1, this.file2)).containsAll(List.of(this.file2));
+        assertThat(this.multiple.getAsFileTree()).containsAll(List.of(this.file1, this.file2));
+        final File missing = new File(this.file1.getParentFile(), "missing.txt");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.single).containsAll(List.of(this.file1, this.file2, missing)))
+                .withMessage("Expected file collection to contain all of the specified files, but 2 of them are "
+                                     + "missing:\n  " + missing + "\n  " + this.file1);
+    }
+
+    @Test
+    public void testContainsExactlyInAnyOrder() {
+        assertThat(this.multiple).containsExactlyInAnyOrder(List.of(this.file2, this.file1));
+        assertThat(this.empty).containsExactlyInAnyOrder(List.of());
+        final File missing = new File(this.file1.getParentFile(), "missing.txt");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.multiple).containsExactlyInAnyOrder(List.of(this.file2, missing)))
+                .withMessage("Expected file collection to contain exactly the specified files, but it does not:\n"
+                                     + "Missing files (1):\n  " + missing + "\n"
+                                     + "Unexpected files (1):\n  " + this.file1);
+    }
+
+    @Test
+    public void testContainsNone() {
+        final File missing = new File(this.file1.getParentFile(), "missing.txt");
+        assertThat(this.single).containsNone(List.of(this.file1, missing));
+        assertThat(this.empty).containsNone(List.of(this.file1));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.multiple).containsNone(List.of(missing, this.file2)))
+                .withMessage("Expected file collection to contain none of the specified files, but it contains 1 of "
+                                     + "them:\n  " + this.file2);
+    }
+
     @Test
     public void testHasSingle() {
         assertThat(this.single).hasSingleFile();
@@ -73,6 +115,53 @@ public class GradleFileCollectionAssertTest {
         assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(this.empty).hasSingleFile());
     }
 
+    @Test
+    public void testHasAtLeast() {
+        assertThat(this.multiple).hasAtLeast(0).hasAtLeast(1).hasAtLeast(2);
+        assertThat(this.multiple.getAsFileTree()).hasAtLeast(2);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.multiple).hasAtLeast(3))
+                .withMessage("Expected file collection to have at least 3 files, but has 2");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.empty.getAsFileTree()).hasAtLeast(1))
+                .withMessage("Expected file collection to have at least 1 file, but has 0");
+    }
+
+    @Test
+    public void testHasAtMost() {
+        assertThat(this.multiple).hasAtMost(2).hasAtMost(3);
+        assertThat(this.empty).hasAtMost(0);
+        assertThat(this.multiple).hasAtMost(Integer.MAX_VALUE);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.multiple).hasAtMost(1))
+                .withMessage("Expected file collection to have at most 1 file, but has 2");
+    }
+
+    @Test
+    public void testFileTreeShortCircuit() throws IOException {
+        final File dir = this.file1.toPath().resolveSibling("generated").toFile();
+        for (int i = 0; i < 10; i++) {
+            Files.createDirectories(dir.toPath().resolve("dir" + i));
+            Files.writeString(dir.toPath().resolve("dir" + i).resolve("file.txt"), "Hello");
+        }
+        final FileTree tree = this.project.fileTree(dir);
+
+        assertThat(tree).isNotEmpty().hasAtLeast(5);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(tree).hasSingleFile())
+                .withMessage("Expected file collection to have a single file, but has at least 2");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(tree).hasAtMost(3))
+                .withMessage("Expected file collection to have at most 3 files, but has at least 4");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(tree).hasAtMost(20).hasSingleFile())
+                .withMessage("Expected file collection to have a single file, but has 10");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(tree).hasAtMost(Integer.MAX_VALUE).hasSingleFile())
+                .withMessage("Expected file collection to have a single file, but has 10");
+        assertThat(this.project.fileTree(new File(dir, "dir3"))).hasSingleFile().asFile().hasName("file.txt");
+    }
+
     @Test
     public void testInstanceFactory() {
         assertThat(this.provider).get(GradleAssertFactories.FILE_COLLECTION).contains(this.file1);
@@ -91,4 +180,72 @@ public class GradleFileCollectionAssertTest {
         assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(this.multiple).asFile());
         assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(this.empty).asFile());
     }
+
+    @Test
+    public void testMatchesFingerprint() throws IOException {
+        final Path manifest = this.project.file("fingerprints.sha256").toPath();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.multiple).matchesFingerprint(manifest))
+                .withMessage("Fingerprint manifest '" + manifest + "' does not exist. Set the system property "
+                                     + "'org.cthing.assertj.gradle.updateFingerprints' to true to create it.");
+
+        System.setProperty(FileFingerprints.UPDATE_PROPERTY, "true");
+        try {
+            assertThat(this.multiple).matchesFingerprint(manifest);
+        } finally {
+            System.clearProperty(FileFingerprints.UPDATE_PROPERTY);
+        }
+        Assertions.assertThat(Files.readAllLines(manifest))
+                  .containsExactly("a591a6d40bf420404a011733cfb7b190d62c65bf0bcda32b57b277d9ad9f146e  test1.txt",
+                                   "c96724127af2d6f56bbc3898632b101167242f02519a99e5ab3f1cab9ff995e7  test2.txt");
+
+        assertThat(this.multiple).matchesFingerprint(manifest);
+
+        Files.writeString(this.file1.toPath(), "Hello Gradle");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.multiple).matchesFingerprint(manifest))
+                .withMessage("Expected file collection to match fingerprint manifest '" + manifest + "', but it does "
+                                     + "not:\n"
+                                     + "Changed files (1):\n"
+                                     + "  test1.txt");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.single).matchesFingerprint(manifest))
+                .withMessage("Expected file collection to match fingerprint manifest '" + manifest + "', but it does "
+                                     + "not:\n"
+                                     + "Missing files (1):\n"
+                                     + "  test1.txt");
+    }
+
+    @Test
+    public void testMatchesFingerprintLargeFiles() throws IOException, NoSuchAlgorithmException {
+        // Larger than two of the chunks in which large files are hashed, and not a multiple of the chunk size
+        final byte[] contents = new byte[5 * 512 * 1024 + 123];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte)(i % 251);
+        }
+        final File large1 = this.project.file("large1.bin");
+        final File large2 = this.project.file("large2.bin");
+        Files.write(large1.toPath(), contents);
+        contents[contents.length - 1]++;
+        Files.write(large2.toPath(), contents);
+
+        final Path manifest = this.project.file("large.sha256").toPath();
+        Files.write(manifest, List.of(sha256(large1) + "  large1.bin", sha256(large2) + "  large2.bin"));
+        final FileCollection files = this.project.files(large1, large2);
+        assertThat(files).matchesFingerprint(manifest);
+
+        contents[2 * 1024 * 1024 + 17]++;
+        Files.write(large2.toPath(), contents);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(files).matchesFingerprint(manifest))
+                .withMessage("Expected file collection to match fingerprint manifest '" + manifest + "', but it does "
+                                     + "not:\n"
+                                     + "Changed files (1):\n"
+                                     + "  large2.bin");
+    }
+
+    private static String sha256(final File file) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file.toPath())));
+    }
 }
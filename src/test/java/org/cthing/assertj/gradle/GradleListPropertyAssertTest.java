@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.List;
+
+import org.gradle.api.Project;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class GradleListPropertyAssertTest {
+
+    private ListProperty<@NonNull String> property;
+
+    @BeforeEach
+    public void setup() {
+        final Project project = ProjectBuilder.builder().build();
+        this.property = project.getObjects().listProperty(String.class);
+        this.property.set(List.of("a", "bb", "ccc"));
+    }
+
+    @Test
+    public void testContainsElement() {
+        assertThat(this.property).containsElement("bb").doesNotContainElement("d");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsElement("d"))
+                .withMessage("Expecting property to contain element 'd', but it does not");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).doesNotContainElement("a"))
+                .withMessage("Expecting property not to contain element 'a', but it does");
+    }
+
+    @Test
+    public void testContainsElementAt() {
+        assertThat(this.property).containsElementAt("a", 0).containsElementAt("ccc", 2);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsElementAt("a", 1))
+                .withMessage("Expecting property to contain element 'a' at index 1, but it contains 'bb'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsElementAt("a", 3))
+                .withMessage("Expecting property to contain element 'a' at index 3, but it has size 3");
+    }
+
+    @Test
+    public void testHasSize() {
+        assertThat(this.property).hasSize(3);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).hasSize(2))
+                .withMessage("Expecting property to have size 2, but it has size 3");
+    }
+
+    @Test
+    public void testAllMatch() {
+        assertThat(this.property).allMatch(element -> !element.isEmpty());
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).allMatch(element -> element.length() < 2))
+                .withMessage("Expecting all elements of property to match the predicate, but element 1 'bb' does not");
+    }
+
+    @Test
+    public void testEmptyProperty() {
+        final ListProperty<@NonNull String> emptyProperty =
+                ProjectBuilder.builder().build().getObjects().listProperty(String.class);
+        emptyProperty.value((List<String>)null);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(emptyProperty).hasSize(0))
+                .withMessageEndingWith("to contain a value, but it was empty");
+    }
+
+    @Test
+    public void testProviderChain() {
+        assertThat(this.property).map(List::size).contains(3);
+        assertThat(this.property).profiled()
+                                 .map(list -> list.get(1))
+                                 .contains("bb")
+                                 .chainDepthAtMost(1);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).evaluatesAtMostOnce())
+                .withMessageStartingWith("Expected a provider created by CountingProviders, but was ");
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Map;
+
+import org.gradle.api.provider.MapProperty;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class GradleMapPropertyAssertTest {
+
+    private MapProperty<@NonNull String, @NonNull Integer> property;
+
+    @BeforeEach
+    public void setup() {
+        this.property = ProjectBuilder.builder().build().getObjects().mapProperty(String.class, Integer.class);
+        this.property.set(Map.of("a", 1, "b", 2));
+    }
+
+    @Test
+    public void testContainsKey() {
+        assertThat(this.property).containsKey("a").doesNotContainKey("c");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsKey("c"))
+                .withMessage("Expecting property to contain key 'c', but it does not");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).doesNotContainKey("b"))
+                .withMessage("Expecting property not to contain key 'b', but it does");
+    }
+
+    @Test
+    public void testContainsEntry() {
+        assertThat(this.property).containsEntry("a", 1).containsEntry("b", 2);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsEntry("a", 2))
+                .withMessage("Expecting property to map key 'a' to '2', but it maps it to '1'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsEntry("c", 2))
+                .withMessage("Expecting property to contain key 'c', but it does not");
+    }
+
+    @Test
+    public void testHasSize() {
+        assertThat(this.property).hasSize(2);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).hasSize(1))
+                .withMessage("Expecting property to have size 1, but it has size 2");
+    }
+
+    @Test
+    public void testAllMatch() {
+        assertThat(this.property).allMatch((key, value) -> value > 0);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).allMatch((key, value) -> !"b".equals(key)))
+                .withMessage("Expecting all entries of property to match the predicate, but entry 'b' -> '2' "
+                                     + "does not");
+    }
+
+    @Test
+    public void testProviderChain() {
+        assertThat(this.property).map(map -> map.get("b")).contains(2);
+        assertThat(this.property).profiled()
+                                 .map(Map::size)
+                                 .contains(2)
+                                 .chainDepthAtMost(1);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class GradlePluginApplyProfileAssertTest {
+
+    private Project project;
+
+    @BeforeEach
+    public void setup() {
+        this.project = ProjectBuilder.builder().build();
+    }
+
+    @Test
+    public void testProfile() {
+        final PluginApplyProfile profile = PluginApplyProfile.profile(this.project, "java");
+        assertThat(this.project).hasPlugin("java");
+
+        final PluginApplyProfile.Node root = profile.getRoot();
+        assertThat(root.getName()).isEqualTo("org.gradle.java");
+        assertThat(root.getChildren().stream().map(PluginApplyProfile.Node::getName))
+                .contains("org.gradle.api.plugins.JavaBasePlugin");
+        assertThat(profile.getDuration()).isEqualTo(root.getDuration()).isPositive();
+        assertThat(profile.getAllocatedBytes()).isPositive();
+
+        final PluginApplyProfile.Node child = root.getChildren().get(0);
+        assertThat(child.getDuration()).isLessThanOrEqualTo(root.getDuration());
+        assertThat(child.getAllocatedBytes()).isLessThanOrEqualTo(root.getAllocatedBytes());
+
+        assertThat(profile.format()).startsWith("\n  org.gradle.java ")
+                                    .contains("\n    org.gradle.api.plugins.JavaBasePlugin ");
+    }
+
+    @Test
+    public void testAlreadyApplied() {
+        this.project.getPluginManager().apply("java");
+        final PluginApplyProfile profile = PluginApplyProfile.profile(this.project, "java");
+        assertThat(profile.getRoot().getName()).isEqualTo("java");
+        assertThat(profile.getRoot().getChildren()).isEmpty();
+    }
+
+    @Test
+    public void testAppliesWithin() {
+        assertThat(this.project).profilePluginApply("java").appliesWithin(Duration.ofMinutes(5));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).profilePluginApply("jacoco").appliesWithin(Duration.ZERO))
+                .withMessageStartingWith("Expected plugin 'org.gradle.jacoco' to apply within 0 ms, but it took ")
+                .withMessageContaining("\n  org.gradle.jacoco ");
+    }
+
+    @Test
+    public void testAllocatesAtMost() {
+        assertThat(this.project).profilePluginApply("java").allocatesAtMost(Long.MAX_VALUE);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).profilePluginApply("jacoco").allocatesAtMost(0))
+                .withMessageStartingWith("Expected plugin 'org.gradle.jacoco' to allocate at most 0 bytes, but it "
+                                                 + "allocated ")
+                .withMessageContaining("\n  org.gradle.jacoco ");
+    }
+}
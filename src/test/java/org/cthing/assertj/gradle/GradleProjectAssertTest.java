@@ -8,12 +8,29 @@ package org.cthing.assertj.gradle;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import groovy.lang.GroovyObject;
+import groovy.lang.MetaClass;
 import org.assertj.core.api.Condition;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.jspecify.annotations.NonNull;
@@ -22,6 +39,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
 
 
@@ -39,6 +57,37 @@ public class GradleProjectAssertTest {
         }
     }
 
+    public abstract static class LazyExtension {
+        public abstract Property<String> getVersion();
+
+        public abstract ConfigurableFileCollection getSources();
+
+        public abstract ListProperty<String> getArguments();
+    }
+
+    public static class EagerExtension {
+        private final List<String> arguments = new ArrayList<>();
+
+        public List<String> getArguments() {
+            return this.arguments;
+        }
+    }
+
+    public abstract static class GroovyExtension implements GroovyObject {
+        private MetaClass metaClass = InvokerHelper.getMetaClass(GroovyExtension.class);
+
+        public abstract Property<String> getVersion();
+
+        @Override
+        public MetaClass getMetaClass() {
+            return this.metaClass;
+        }
+
+        @Override
+        public void setMetaClass(final MetaClass metaClass) {
+            this.metaClass = metaClass;
+        }
+    }
 
     private Project project;
     private Provider<@NonNull Project> provider;
@@ -71,6 +120,29 @@ public class GradleProjectAssertTest {
                 .hasExtension("_not_found_"));
     }
 
+    @Test
+    public void testHasLazyExtension() {
+        this.project.getExtensions().create("lazyExtension", LazyExtension.class);
+        this.project.getExtensions().create("testExtension", TestExtension.class);
+        this.project.getExtensions().create("eagerExtension", EagerExtension.class);
+        this.project.getExtensions().create("groovyExtension", GroovyExtension.class);
+        assertThat(this.project).hasLazyExtension("lazyExtension");
+        assertThat(this.project).hasLazyExtension("groovyExtension");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasLazyExtension("testExtension"))
+                .withMessage("Expected extension 'testExtension' of type '" + TestExtension.class.getName()
+                                     + "' to expose only lazy state, but it exposes eager state:\n"
+                                     + "  setSomeValue(java.lang.String)");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasLazyExtension("eagerExtension"))
+                .withMessage("Expected extension 'eagerExtension' of type '" + EagerExtension.class.getName()
+                                     + "' to expose only lazy state, but it exposes eager state:\n"
+                                     + "  getArguments(): java.util.List");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasLazyExtension("_not_found_"))
+                .withMessage("Project 'test' does not contain the extension '_not_found_'");
+    }
+
     @Test
     public void testHasExtensionWithNameType() {
         this.project.getExtensions().create("testExtension", TestExtension.class);
@@ -201,6 +273,33 @@ public class GradleProjectAssertTest {
         assertThat(this.project).doesNotHaveTask("_not_found_");
     }
 
+    @Test
+    public void testHasTasksMatching() {
+        this.project.getTasks().register("compileFooDebugJava");
+        this.project.getTasks().register("compileBarDebugJava");
+        assertThat(this.project).hasTasksMatching(Pattern.compile("compile.+DebugJava"));
+        assertThat(this.project).doesNotHaveTasksMatching(Pattern.compile("compile.+ReleaseJava"));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasTasksMatching(Pattern.compile("compile.+ReleaseJava")))
+                .withMessage("Project 'test' does not contain any tasks matching 'compile.+ReleaseJava'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).doesNotHaveTasksMatching(Pattern.compile("compile.+DebugJava")))
+                .withMessage("Project 'test' should not contain tasks matching 'compile.+DebugJava', but contains "
+                                     + "[compileBarDebugJava, compileFooDebugJava]");
+    }
+
+    @Test
+    public void testHasTaskCount() {
+        final int count = this.project.getTasks().getNames().size();
+        assertThat(this.project).hasTaskCount(count);
+        this.project.getTasks().register("testTask");
+        assertThat(this.project).hasTaskCount(count + 1);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasTaskCount(count))
+                .withMessage(String.format("Expected project 'test' to contain %d tasks, but contains %d", count,
+                                           count + 1));
+    }
+
     @Test
     public void testHasTaskWithType() {
         assertThat(this.project).hasTaskWithType("build", DefaultTask.class);
@@ -274,6 +373,188 @@ public class GradleProjectAssertTest {
                 .withMessage("Project 'test' does not contain the task 'foo'");
     }
 
+    @Test
+    public void testRealizedOnlyTasks() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasNoEagerlyRealizedTasks())
+                .withMessage("Project 'test' does not have a TaskRealizationRecorder installed");
+
+        TaskRealizationRecorder.install(this.project);
+        this.project.getTasks().register("lazyTask");
+        assertThat(this.project).hasNoEagerlyRealizedTasks();
+
+        this.project.getTasks().getByName("lazyTask");
+        assertThat(this.project).realizedOnlyTasks("lazyTask");
+        assertThat(this.project).realizedOnlyTasks("lazyTask", "build");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).hasNoEagerlyRealizedTasks())
+                .withMessageStartingWith("Project 'test' realized 1 of ")
+                .withMessageContaining("1 of which were not expected:\n  lazyTask realized at "
+                                               + "org.cthing.assertj.gradle.GradleProjectAssertTest");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).realizedOnlyTasks("build"));
+    }
+
+    @Test
+    public void testAllSubprojects() {
+        final Project lib1 = ProjectBuilder.builder().withName("lib1").withParent(this.project).build();
+        final Project lib2 = ProjectBuilder.builder().withName("lib2").withParent(this.project).build();
+        final Project app = ProjectBuilder.builder().withName("app").withParent(this.project).build();
+        ProjectBuilder.builder().withName("nested").withParent(app).build();
+        lib1.getPluginManager().apply("java");
+        lib2.getPluginManager().apply("java");
+
+        assertThat(this.project).subprojectsMatching(subproject -> subproject.getName().startsWith("lib"),
+                                                     subproject -> subproject.hasPlugin("java").hasTask("jar"));
+        assertThat(lib1.getState().getExecuted()).isTrue();
+        assertThat(lib2.getState().getExecuted()).isTrue();
+
+        assertThat(this.project).subprojectsMatching(subproject -> false, subproject -> subproject.hasTask("foo"));
+        assertThat(this.project).allSubprojects(subproject -> subproject.doesNotHavePlugin("checkstyle"));
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).allSubprojects(subproject -> subproject.hasPlugin("java")))
+                .withMessage("2 of 4 subprojects of project 'test' failed:"
+                                     + "\n  :app: Project 'app' does not contain the plugin 'java'"
+                                     + "\n  :app:nested: Project 'nested' does not contain the plugin 'java'");
+
+        final AtomicInteger checked = new AtomicInteger();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).allSubprojects(subproject -> {
+                    // Subprojects are checked in path order, so the third is lib1
+                    if (checked.incrementAndGet() == 3) {
+                        throw new IllegalStateException("broken");
+                    }
+                    subproject.hasPlugin("java");
+                }))
+                .withMessage("3 of 4 subprojects of project 'test' failed:"
+                                     + "\n  :app: Project 'app' does not contain the plugin 'java'"
+                                     + "\n  :app:nested: Project 'nested' does not contain the plugin 'java'"
+                                     + "\n  :lib1: threw java.lang.IllegalStateException: broken");
+    }
+
+    @Test
+    public void testSubprojectSnapshots() {
+        final Project lib1 = ProjectBuilder.builder().withName("lib1").withParent(this.project).build();
+        final Project lib2 = ProjectBuilder.builder().withName("lib2").withParent(this.project).build();
+        final Project app = ProjectBuilder.builder().withName("app").withParent(this.project).build();
+        ProjectBuilder.builder().withName("nested").withParent(app).build();
+        lib1.getPluginManager().apply("java");
+        lib2.getPluginManager().apply("java");
+
+        assertThat(this.project).subprojectSnapshotsMatching(subproject -> subproject.getName().startsWith("lib"),
+                                                             subproject -> subproject.hasPlugin("java")
+                                                                                     .hasTask("jar"));
+        assertThat(lib1.getState().getExecuted()).isTrue();
+        assertThat(app.getState().getExecuted()).isFalse();
+
+        assertThat(this.project).subprojectSnapshotsMatching(subproject -> false,
+                                                             subproject -> subproject.hasTask("foo"));
+        assertThat(this.project).allSubprojectSnapshots(subproject -> subproject.doesNotHavePlugin("checkstyle"));
+
+        lib1.getTasks().register("broken");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).allSubprojectSnapshots(subproject -> {
+                    try {
+                        subproject.doesNotHaveTask("broken");
+                    } catch (final AssertionError ex) {
+                        throw new IllegalStateException("broken", ex);
+                    }
+                    subproject.hasPlugin("java");
+                }))
+                .withMessage("3 of 4 subprojects of project 'test' failed:"
+                                     + "\n  :app: Project 'app' does not contain the plugin 'java'"
+                                     + "\n  :app:nested: Project 'nested' does not contain the plugin 'java'"
+                                     + "\n  :lib1: threw java.lang.IllegalStateException: broken");
+
+        assertThatExceptionOfType(StackOverflowError.class)
+                .isThrownBy(() -> assertThat(this.project).allSubprojects(subproject -> {
+                    throw new StackOverflowError();
+                }));
+    }
+
+    @Test
+    public void testSubprojectSnapshotsCheckedConcurrently() {
+        for (int i = 0; i < 32; i++) {
+            ProjectBuilder.builder().withName("lib" + i).withParent(this.project).build();
+        }
+
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final CountDownLatch latch = new CountDownLatch(2);
+        assertThat(this.project).allSubprojectSnapshots(subproject -> {
+            if (threads.add(Thread.currentThread())) {
+                latch.countDown();
+            }
+            try {
+                // Hold each check until a second thread has joined so that concurrency is observable
+                latch.await(100, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+            assertThat(threads).hasSizeGreaterThan(1);
+        }
+    }
+
+    @Test
+    public void testEvaluated() {
+        final Project evaluatedProject = ProjectBuilder.builder().build();
+        evaluatedProject.getTasks().register("lazy");
+        evaluatedProject.afterEvaluate(p -> {
+            p.getTasks().register("late");
+            p.getTasks().named("lazy").get();
+        });
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(evaluatedProject).evaluatesWithin(Duration.ofMinutes(5)))
+                .withMessage("Project 'test' evaluation has not been measured. Call evaluated() first.");
+        assertThat(evaluatedProject).doesNotHaveTask("late");
+
+        assertThat(evaluatedProject).evaluated()
+                                    .hasTask("late")
+                                    .evaluatesWithin(Duration.ofMinutes(5))
+                                    .allocatesLessThan(Long.MAX_VALUE)
+                                    .realizesAtMost(1);
+        assertThat(evaluatedProject.getState().getExecuted()).isTrue();
+        assertThat(evaluatedProject).evaluated().evaluated().realizesAtMost(0);
+
+        final Project project2 = ProjectBuilder.builder().build();
+        project2.getTasks().register("lazy");
+        project2.afterEvaluate(p -> p.getTasks().named("lazy").get());
+        final GradleProjectAssert evaluatedAssert = assertThat(project2).evaluated();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> evaluatedAssert.realizesAtMost(0))
+                .withMessage("Expected project 'test' to realize at most 0 domain objects during evaluation, but it "
+                                     + "realized 1");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> evaluatedAssert.evaluatesWithin(Duration.ZERO))
+                .withMessageStartingWith("Expected project 'test' to evaluate within 0 ms, but it took ");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> evaluatedAssert.allocatesLessThan(1))
+                .withMessageStartingWith("Expected project 'test' to allocate less than 1 bytes during evaluation, "
+                                                 + "but it allocated ");
+    }
+
+    @Test
+    public void testRetainedHeapDeltaAtMost() {
+        final Project freshProject = ProjectBuilder.builder().build();
+        assertThat(freshProject).retainedHeapDeltaAtMost(Long.MAX_VALUE,
+                                                         () -> freshProject.getPluginManager().apply("java"));
+        assertThat(freshProject).hasPlugin("java");
+
+        final AssertionError error = catchThrowableOfType(AssertionError.class, () -> {
+            assertThat(freshProject).retainedHeapDeltaAtMost(1_000_000, () -> {
+                freshProject.getExtensions().getExtraProperties().set("retained", new byte[10_000_000]);
+            });
+        });
+        assertThat(error).hasMessageStartingWith("Expected project 'test' to retain at most 1000000 additional "
+                                                         + "bytes, but it retained ");
+        final Matcher matcher = Pattern.compile("but it retained (\\d+) bytes").matcher(error.getMessage());
+        assertThat(matcher.find()).isTrue();
+        assertThat(Long.parseLong(matcher.group(1))).isGreaterThanOrEqualTo(9_000_000L);
+    }
+
     @Test
     public void testHasProjectFile() throws IOException {
         final File dir = this.project.file("src/main");
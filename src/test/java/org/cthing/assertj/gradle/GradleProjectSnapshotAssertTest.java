@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.cthing.assertj.gradle.GradleProjectSnapshot.ConfigurationRole;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaPluginExtension;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class GradleProjectSnapshotAssertTest {
+
+    public static class TestTask extends DefaultTask {
+    }
+
+    private Project project;
+    private AtomicBoolean realized;
+    private GradleProjectSnapshot snapshot;
+
+    @BeforeEach
+    public void setup() {
+        this.project = ProjectBuilder.builder().build();
+        this.project.getPluginManager().apply("java");
+        this.project.getPluginManager().apply("checkstyle");
+        this.project.getExtensions().create("testExtension", GradleProjectAssertTest.TestExtension.class);
+
+        this.realized = new AtomicBoolean();
+        this.project.getTasks().register("testTask", TestTask.class, task -> this.realized.set(true));
+
+        this.snapshot = GradleProjectSnapshot.capture(this.project);
+    }
+
+    @Test
+    public void testCapture() {
+        assertThat(this.realized.get()).isFalse();
+        assertThat(this.snapshot.getName()).isEqualTo("test");
+        assertThat(this.snapshot.getPath()).isEqualTo(":");
+        assertThat(this.project).snapshot().hasTask("testTask");
+
+        this.project.getTasks().register("anotherTask");
+        assertThat(this.snapshot).doesNotHaveTask("anotherTask");
+    }
+
+    @Test
+    public void testHasExtension() {
+        assertThat(this.snapshot).hasExtension("testExtension", "java");
+        assertThat(this.snapshot).doesNotHaveExtension("_not_found_");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasExtension("_not_found_"))
+                .withMessage("Project 'test' does not contain the extension '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).doesNotHaveExtension("java"))
+                .withMessage("Project 'test' should not contain the extension 'java'");
+    }
+
+    @Test
+    public void testHasExtensionWithType() {
+        assertThat(this.snapshot).hasExtensionWithType("java", JavaPluginExtension.class);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasExtensionWithType("_not_found_", String.class))
+                .withMessage("Project 'test' does not contain the extension '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasExtensionWithType("java", String.class))
+                .withMessage("Expected extension 'java' to be an instance of 'java.lang.String' but is "
+                                     + "'org.gradle.api.plugins.JavaPluginExtension'");
+    }
+
+    @Test
+    public void testHasConfiguration() {
+        assertThat(this.snapshot).hasConfiguration("implementation", "compileClasspath");
+        assertThat(this.snapshot).doesNotHaveConfiguration("_not_found_");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasConfiguration("_not_found_"))
+                .withMessage("Project 'test' does not contain the configuration '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).doesNotHaveConfiguration("implementation"))
+                .withMessage("Project 'test' should not contain the configuration 'implementation'");
+    }
+
+    @Test
+    public void testHasConfigurationWithRole() {
+        assertThat(this.snapshot).hasConfigurationWithRole("implementation", ConfigurationRole.DECLARABLE)
+                                 .hasConfigurationWithRole("compileClasspath", ConfigurationRole.RESOLVABLE)
+                                 .hasConfigurationWithRole("apiElements", ConfigurationRole.CONSUMABLE);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasConfigurationWithRole("_not_found_",
+                                                                                      ConfigurationRole.RESOLVABLE))
+                .withMessage("Project 'test' does not contain the configuration '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasConfigurationWithRole("implementation",
+                                                                                      ConfigurationRole.RESOLVABLE))
+                .withMessage("Expected configuration 'implementation' to have role 'RESOLVABLE', but its roles are "
+                                     + "[DECLARABLE]");
+    }
+
+    @Test
+    public void testHasPlugin() {
+        assertThat(this.snapshot).hasPlugin("java", "org.gradle.java", "checkstyle");
+        assertThat(this.snapshot).doesNotHavePlugin("_not_found_");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasPlugin("_not_found_"))
+                .withMessage("Project 'test' does not contain the plugin '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).doesNotHavePlugin("java"))
+                .withMessage("Project 'test' should not contain the plugin 'java'");
+    }
+
+    @Test
+    public void testHasTask() {
+        assertThat(this.snapshot).hasTask("testTask", "build", "checkstyleMain");
+        assertThat(this.snapshot).doesNotHaveTask("_not_found_");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasTask("_not_found_"))
+                .withMessage("Project 'test' does not contain the task '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).doesNotHaveTask("build"))
+                .withMessage("Project 'test' should not contain the task 'build'");
+    }
+
+    @Test
+    public void testHasTaskWithType() {
+        assertThat(this.snapshot).hasTaskWithType("testTask", TestTask.class)
+                                 .hasTaskWithType("build", DefaultTask.class)
+                                 .hasTaskWithType("checkstyleMain", Checkstyle.class);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasTaskWithType("_not_found_", DefaultTask.class))
+                .withMessage("Project 'test' does not contain the task '_not_found_'");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.snapshot).hasTaskWithType("build", Checkstyle.class))
+                .withMessage("Expected task 'build' to be an instance of 'org.gradle.api.plugins.quality.Checkstyle' "
+                                     + "but is 'org.gradle.api.DefaultTask'");
+        assertThat(this.realized.get()).isFalse();
+    }
+}
@@ -6,17 +6,25 @@
 package org.cthing.assertj.gradle;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.gradle.api.DefaultTask;
 import org.gradle.api.Project;
 import org.gradle.api.Transformer;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.TaskProvider;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +36,11 @@ import static org.cthing.assertj.gradle.GradleProviderAssert.assertThat;
 
 public class GradleProviderAssertTest {
 
+    public abstract static class GenerateTask extends DefaultTask {
+        @OutputFile
+        public abstract RegularFileProperty getOutputFile();
+    }
+
     private Project project;
 
     @BeforeEach
@@ -225,4 +238,260 @@ public class GradleProviderAssertTest {
         final Provider<@NonNull String> provider2 = this.project.provider(() -> "test2");
         assertThat(provider1).flatMap((Transformer<Provider<String>, String>)s -> provider2).contains("test2");
     }
+
+    @Test
+    public void testEvaluatedOnce() {
+        final AtomicInteger count = new AtomicInteger();
+        final Provider<@NonNull String> provider = this.project.provider(() -> "test" + count.incrementAndGet());
+
+        assertThat(provider).contains("test1");
+        Assertions.assertThat(count.get()).isEqualTo(1);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).contains("test1"))
+                .withMessage("Expecting provider to contain 'test1' but was 'test2'");
+        Assertions.assertThat(count.get()).isEqualTo(2);
+
+        count.set(0);
+        assertThat(provider).evaluatedOnce()
+                            .isPresent()
+                            .contains("test1")
+                            .containsInstanceOf(String.class)
+                            .hasValueSatisfying(value -> Assertions.assertThat(value).isEqualTo("test1"))
+                            .evaluatedOnce()
+                            .get()
+                            .isEqualTo("test1");
+        Assertions.assertThat(count.get()).isEqualTo(1);
+
+        final GradleProviderAssert<String> evaluatedAssert = assertThat(provider).evaluatedOnce();
+        evaluatedAssert.get(InstanceOfAssertFactories.STRING).isEqualTo("test2");
+        Assertions.assertThat(count.get()).isEqualTo(2);
+
+        final Property<@NonNull String> property = this.project.getObjects().property(String.class);
+        final GradleProviderAssert<String> emptyAssert = assertThat(property).evaluatedOnce();
+        property.set("value");
+        emptyAssert.isEmpty();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(emptyAssert::isPresent)
+                .withMessageStartingWith("Expecting 'property(java.lang.String, ");
+    }
+
+    @Test
+    public void testIsNotEvaluatedDuring() {
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "a");
+        final Property<@NonNull String> property = this.project.getObjects().property(String.class);
+
+        assertThat(provider).isNotEvaluatedDuring(() -> property.set(provider)).contains("a");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).isNotEvaluatedDuring(property::get))
+                .withMessageStartingWith("Expected provider not to be evaluated, but it was evaluated 1 times:\n"
+                                                 + "  evaluated at " + GradleProviderAssertTest.class.getName());
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(property).isNotEvaluatedDuring(() -> { }))
+                .withMessageStartingWith("Expected a provider created by CountingProviders, but was ");
+    }
+
+    @Test
+    public void testEvaluatesAtMostOnce() {
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "a");
+        assertThat(provider).contains("a").evaluatesAtMostOnce();
+        provider.get();
+        assertThat(provider).evaluatesAtMostOnce();
+        provider.get();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).evaluatesAtMostOnce())
+                .withMessageStartingWith("Expected provider to be evaluated at most once, but it was evaluated 2 "
+                                                 + "times:\n  evaluated at ");
+    }
+
+    @Test
+    public void testWithin() {
+        final AtomicInteger count = new AtomicInteger();
+        final Provider<@NonNull String> provider = this.project.provider(() -> "test" + count.incrementAndGet());
+        assertThat(provider).within(Duration.ofMinutes(1))
+                            .contains("test1")
+                            .isPresent()
+                            .evaluatesWithin(Duration.ofMinutes(1));
+        Assertions.assertThat(count.get()).isEqualTo(1);
+
+        final Property<@NonNull String> property = this.project.getObjects().property(String.class);
+        assertThat(property).within(Duration.ofMinutes(1)).isEmpty();
+
+        final Provider<@NonNull String> failing = this.project.provider(() -> {
+            throw new IllegalStateException("Evaluation failed");
+        });
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(failing).within(Duration.ofMinutes(1)))
+                .withMessage("Expected provider evaluation to complete within 60000 ms, but the timed evaluation "
+                                     + "failed: java.lang.IllegalStateException: Evaluation failed")
+                .withCauseInstanceOf(IllegalStateException.class);
+
+        final GradleProviderAssert<String> evaluatedAssert = assertThat(provider).evaluatedOnce();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> evaluatedAssert.within(Duration.ofMinutes(1)))
+                .withMessage("Expected provider not to have been evaluated before a timed evaluation, but it has "
+                                     + "been evaluated by evaluatedOnce() or within()");
+    }
+
+    @Test
+    public void testWithinTimeout() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Provider<@NonNull String> provider = this.project.provider(() -> {
+            latch.await();
+            return "test";
+        });
+        try {
+            assertThatExceptionOfType(AssertionError.class)
+                    .isThrownBy(() -> assertThat(provider).within(Duration.ofMillis(50)))
+                    .withMessageStartingWith("Expected provider evaluation to complete within 50 ms, but it did not. "
+                                                     + "Evaluation stack:\n\tat ")
+                    .withMessageContaining(CountDownLatch.class.getName() + ".await");
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    public void testEvaluatesWithin() {
+        final Provider<@NonNull String> provider = this.project.provider(() -> {
+            Thread.sleep(50);
+            return "test";
+        });
+        assertThat(provider).evaluatesWithin(Duration.ofMinutes(1)).contains("test");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).within(Duration.ofMinutes(1))
+                                                      .evaluatesWithin(Duration.ofMillis(1)))
+                .withMessageStartingWith("Expected provider to evaluate within 1 ms, but it took ");
+
+        final AtomicInteger count = new AtomicInteger();
+        final Provider<@NonNull String> counted = this.project.provider(() -> "test" + count.incrementAndGet());
+        assertThat(counted).evaluatedOnce().evaluatesWithin(Duration.ofMinutes(1)).contains("test1");
+        Assertions.assertThat(count.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIsProducedBy() {
+        final TaskProvider<@NonNull GenerateTask> generate =
+                this.project.getTasks().register("generate", GenerateTask.class, task -> task.getOutputFile()
+                        .set(this.project.getLayout().getBuildDirectory().file("generated.txt")));
+        final TaskProvider<@NonNull GenerateTask> other = this.project.getTasks().register("other", GenerateTask.class);
+        final Provider<@NonNull RegularFile> output = generate.flatMap(GenerateTask::getOutputFile);
+        final Provider<@NonNull String> mapped = output.map(file -> file.getAsFile().getName());
+
+        assertThat(output).isProducedBy(":generate").carriesDependencyOn(generate);
+        assertThat(mapped).isProducedBy(":generate").carriesDependencyOn(generate);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(mapped).isProducedBy(":other"))
+                .withMessage("Expected provider to be produced by task ':other', but its producer tasks were "
+                                     + "[:generate]");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(mapped).carriesDependencyOn(other))
+                .withMessage("Expected provider to carry a dependency on task 'other', but its producer tasks were "
+                                     + "[:generate]");
+
+        final Provider<@NonNull String> provider = this.project.provider(() -> "test");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).isProducedBy(":generate"))
+                .withMessage("Expected provider to be produced by task ':generate', but its producer tasks were []");
+    }
+
+    @Test
+    public void testIsFinalized() {
+        final Property<@NonNull String> property = this.project.getObjects().property(String.class).value("abc");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(property).isFinalized())
+                .withMessage("Expected property to be finalized, but it was not");
+        property.finalizeValue();
+        assertThat(property).isFinalized().disallowsChanges();
+
+        final Provider<@NonNull String> provider = this.project.provider(() -> "abc");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).isFinalized())
+                .withMessage("Expected a Gradle property, but was 'provider(?)'");
+    }
+
+    @Test
+    public void testDisallowsChanges() {
+        final RegularFileProperty property = this.project.getObjects().fileProperty();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> GradleAssertions.assertThat(property).disallowsChanges())
+                .withMessage("Expected property to disallow changes, but it does not");
+        property.disallowChanges();
+        GradleAssertions.assertThat(property).disallowsChanges();
+    }
+
+    @Test
+    public void testFinalizesOnRead() {
+        final Property<@NonNull String> property = this.project.getObjects().property(String.class).value("abc");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(property).finalizesOnRead())
+                .withMessage("Expected property to be finalized when read, but it was not");
+        property.finalizeValueOnRead();
+        assertThat(property).finalizesOnRead().isFinalized();
+    }
+
+    @Test
+    public void testRecomputesAtMost() {
+        final Property<@NonNull String> property = this.project.getObjects().property(String.class);
+        final Provider<@NonNull String> provider = CountingProviders.provider(this.project.getProviders(), () -> "abc");
+        property.set(provider);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(property).recomputesAtMost(1))
+                .withMessage("Expected property to be computed at most 1 times when read 2 times, but it was computed "
+                                     + "2 times");
+
+        property.finalizeValueOnRead();
+        assertThat(property).recomputesAtMost(1);
+        Assertions.assertThat(CountingProviders.getEvaluationCount(provider)).isZero();
+
+        final Property<@NonNull String> fixed = this.project.getObjects().property(String.class).value("abc");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(fixed).recomputesAtMost(0))
+                .withMessage("Expected property to obtain its value from a provider created by CountingProviders, "
+                                     + "but no computations were counted");
+    }
+
+    @Test
+    public void testChainDepthAtMost() {
+        final Provider<@NonNull String> provider = this.project.provider(() -> "abc");
+        assertThat(provider).profiled()
+                            .map(String::length)
+                            .flatMap(length -> this.project.provider(() -> length * 2))
+                            .contains(6)
+                            .chainDepthAtMost(2);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).profiled()
+                                                      .map(String::length)
+                                                      .flatMap(length -> this.project.provider(() -> length * 2))
+                                                      .chainDepthAtMost(1))
+                .withMessageStartingWith("Expected provider chain depth to be at most 1, but it was 2:\n"
+                                                 + "  map #1: 0 invocations, 0 ms\n"
+                                                 + "  flatMap #2: 0 invocations, ");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(provider).map(String::length).chainDepthAtMost(1))
+                .withMessage("Provider chain is not being profiled. Call profiled() first.");
+    }
+
+    @Test
+    public void testTotalEvaluationWithin() {
+        final Provider<@NonNull String> provider = this.project.provider(() -> "abc");
+        final GradleProviderAssert<Integer> chain = assertThat(provider).profiled()
+                                                                        .map(String::length)
+                                                                        .map(GradleProviderAssertTest::slowIncrement);
+        chain.totalEvaluationWithin(Duration.ofMinutes(1));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> chain.totalEvaluationWithin(Duration.ofMillis(1)))
+                .withMessageStartingWith("Expected provider chain to evaluate within 1 ms, but it took ")
+                .withMessageContaining("\n  map #1: 1 invocations, ")
+                .withMessageContaining("\n  map #2: 1 invocations, ");
+    }
+
+    private static int slowIncrement(final int value) {
+        try {
+            Thread.sleep(100);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return value + 1;
+    }
 }
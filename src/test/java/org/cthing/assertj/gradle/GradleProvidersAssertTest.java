@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.gradle.api.Project;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThatProviders;
+
+
+public class GradleProvidersAssertTest {
+
+    private Project project;
+    private AtomicInteger evaluations;
+    private Map<String, Provider<?>> providers;
+
+    @BeforeEach
+    public void setup() {
+        this.project = ProjectBuilder.builder().build();
+        this.evaluations = new AtomicInteger();
+        this.providers = new TreeMap<>();
+        this.providers.put("abc", this.project.provider(() -> {
+            this.evaluations.incrementAndGet();
+            return "abc";
+        }));
+        this.providers.put("seventeen", this.project.provider(() -> {
+            this.evaluations.incrementAndGet();
+            return 17;
+        }));
+        this.providers.put("empty", this.project.provider(() -> {
+            this.evaluations.incrementAndGet();
+            return null;
+        }));
+    }
+
+    @Test
+    public void testEvaluatesOnce() {
+        assertThatProviders(this.providers)
+                .containsValues(Map.of("abc", "abc", "seventeen", 17))
+                .allSatisfy((name, value) -> assertThat(name).isNotEmpty())
+                .eachEvaluatesWithin(Duration.ofMinutes(1));
+        assertThat(this.evaluations.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testAllPresent() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(this.providers).allPresent())
+                .withMessageStartingWith("1 of 3 providers failed:\n  empty (")
+                .withMessageContaining(" ms): was empty\nSlowest evaluations:\n  ");
+        this.providers.remove("empty");
+        assertThatProviders(this.providers).allPresent();
+    }
+
+    @Test
+    public void testContainsValues() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(this.providers)
+                        .containsValues(Map.of("abc", "xyz", "seventeen", 17, "empty", "foo", "missing", 1)))
+                .withMessageStartingWith("2 of 3 providers failed:\n  abc (")
+                .withMessageContaining(" ms): expected 'xyz' but was 'abc'\n  empty (")
+                .withMessageContaining(" ms): expected 'foo' but was empty\nUnknown providers: missing\n"
+                                               + "Slowest evaluations:");
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(this.providers).containsValues(Map.of("abc", "abc", "other", 1)))
+                .withMessageStartingWith("0 of 3 providers failed:\nUnknown providers: other\n");
+    }
+
+    @Test
+    public void testAllSatisfy() {
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(this.providers)
+                        .allSatisfy((name, value) -> assertThat(value).isNotNull()))
+                .withMessageStartingWith("1 of 3 providers failed:\n  empty (");
+    }
+
+    @Test
+    public void testEvaluationFailure() {
+        this.providers.put("broken", this.project.provider(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(this.providers).containsValues(Map.of("abc", "abc")))
+                .withMessageStartingWith("1 of 4 providers failed:\n  broken (")
+                .withMessageContaining("evaluation failed: ")
+                .withMessageContaining("boom");
+    }
+
+    @Test
+    public void testEachEvaluatesWithin() {
+        this.providers.put("slow", this.project.provider(() -> {
+            Thread.sleep(2000);
+            return "slow";
+        }));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(this.providers).eachEvaluatesWithin(Duration.ofMillis(200)))
+                .withMessageStartingWith("1 of 4 providers failed:\n  slow (")
+                .withMessageContaining("ms): expected evaluation within 200 ms\nSlowest evaluations:\n  slow ");
+    }
+
+    @Test
+    public void testPropertyMap() {
+        final Map<String, Property<String>> properties = new TreeMap<>();
+        properties.put("first", this.project.getObjects().property(String.class).value("one"));
+        properties.put("second", this.project.getObjects().property(String.class).value("two"));
+        assertThatProviders(properties).allPresent().containsValues(Map.of("first", "one", "second", "two"));
+    }
+
+    @Test
+    public void testEvaluationError() {
+        final Map<String, Provider<?>> failing = Map.of("failing", this.project.provider(() -> {
+            throw new AssertionError("nested assertion");
+        }));
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatProviders(failing).allPresent())
+                .withMessage("nested assertion");
+    }
+}
@@ -8,6 +8,7 @@ package org.cthing.assertj.gradle;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 
 import org.gradle.api.Project;
 import org.gradle.api.file.RegularFileProperty;
@@ -40,4 +41,14 @@ public class GradleRegularFilePropertyAssertTest {
     public void testGetString() {
         assertThat(this.regularFile).getString().endsWith("test.txt");
     }
+
+    @Test
+    public void testProfiled() {
+        assertThat(this.regularFile).profiled()
+                                    .map(file -> file.getAsFile().getName())
+                                    .contains("test.txt")
+                                    .chainDepthAtMost(1)
+                                    .totalEvaluationWithin(Duration.ofMinutes(1));
+        assertThat(this.regularFile).profiled().getRegularFile().asFile().isFile();
+    }
 }
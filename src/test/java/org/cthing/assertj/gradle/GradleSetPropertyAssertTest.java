@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.Set;
+
+import org.gradle.api.provider.SetProperty;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class GradleSetPropertyAssertTest {
+
+    private SetProperty<@NonNull Integer> property;
+
+    @BeforeEach
+    public void setup() {
+        this.property = ProjectBuilder.builder().build().getObjects().setProperty(Integer.class);
+        this.property.set(Set.of(1, 2, 3));
+    }
+
+    @Test
+    public void testContainsElement() {
+        assertThat(this.property).containsElement(2).doesNotContainElement(4);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).containsElement(4))
+                .withMessage("Expecting property to contain element '4', but it does not");
+    }
+
+    @Test
+    public void testHasSize() {
+        assertThat(this.property).hasSize(3);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).hasSize(4))
+                .withMessage("Expecting property to have size 4, but it has size 3");
+    }
+
+    @Test
+    public void testAllMatch() {
+        assertThat(this.property).allMatch(element -> element > 0);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.property).allMatch(element -> element < 0))
+                .withMessageStartingWith("Expecting all elements of property to match the predicate, but element 0 ");
+    }
+
+    @Test
+    public void testProviderChain() {
+        assertThat(this.property).map(Set::size).contains(3);
+        assertThat(this.property).profiled().map(Set::size).chainDepthAtMost(1);
+    }
+}
@@ -10,9 +10,21 @@ import java.io.File;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -69,6 +81,41 @@ public class GradleTaskAssertTest {
         }
     }
 
+    public abstract static class LazyTestTask extends DefaultTask {
+        @Input
+        public abstract Property<String> getVersion();
+
+        @InputFiles
+        @PathSensitive(PathSensitivity.RELATIVE)
+        @SkipWhenEmpty
+        @IgnoreEmptyDirectories
+        public abstract ConfigurableFileCollection getSources();
+
+        @Classpath
+        public abstract ConfigurableFileCollection getClasspath();
+
+        @OutputDirectory
+        public abstract DirectoryProperty getOutputDir();
+    }
+
+    public static class TestOptions {
+        private String level = "info";
+
+        @Input
+        public String getLevel() {
+            return this.level;
+        }
+
+        public void setLevel(final String level) {
+            this.level = level;
+        }
+    }
+
+    public abstract static class NestedTestTask extends DefaultTask {
+        @Nested
+        public abstract Property<TestOptions> getOptions();
+    }
+
     private Project project;
     private Provider<@NonNull TestTask> testTaskProvider1;
     private Provider<@NonNull TestTask> testTaskProvider2;
@@ -187,4 +234,28 @@ public class GradleTaskAssertTest {
                 .isThrownBy(() -> assertThat(task).getOutputFiles().isEmpty())
                 .withMessage("Expected task 'testTask17' to have outputs, but it does not");
     }
+
+    @Test
+    public void testUsesLazyInputsOnly() {
+        final Task lazyTask = this.project.getTasks().register("lazyTask", LazyTestTask.class).get();
+        assertThat(lazyTask).usesLazyInputsOnly();
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.testTask1).usesLazyInputsOnly())
+                .withMessage("Expected task 'testTask1' of type '" + TestTask.class.getName()
+                                     + "' to use only lazy inputs and outputs, but found:\n"
+                                     + "  prop2 (@OutputFile) has eager type java.io.File\n"
+                                     + "  prop3 (@InputFile) has eager type java.io.File\n"
+                                     + "  prop3 (@InputFile) is missing @PathSensitive");
+    }
+
+    @Test
+    public void testUsesLazyInputsOnlyNestedProvider() {
+        final Task nestedTask = this.project.getTasks().register("nestedTask", NestedTestTask.class).get();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(nestedTask).usesLazyInputsOnly())
+                .withMessage("Expected task 'nestedTask' of type '" + NestedTestTask.class.getName()
+                                     + "' to use only lazy inputs and outputs, but found:\n"
+                                     + "  options.level (@Input) has eager type java.lang.String");
+    }
 }
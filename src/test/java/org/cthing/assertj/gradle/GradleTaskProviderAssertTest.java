@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class GradleTaskProviderAssertTest {
+
+    public static class TestTask extends DefaultTask {
+        public TestTask() {
+            setDescription("Hello world");
+        }
+    }
+
+    private Project project;
+    private AtomicBoolean realized;
+    private TaskProvider<@NonNull TestTask> taskProvider;
+
+    @BeforeEach
+    public void setup() {
+        this.project = ProjectBuilder.builder().build();
+        this.realized = new AtomicBoolean();
+        this.taskProvider = this.project.getTasks().register("testTask", TestTask.class,
+                                                            task -> this.realized.set(true));
+    }
+
+    @Test
+    public void testInstanceFactory() {
+        final Provider<@NonNull TaskProvider<@NonNull TestTask>> provider =
+                this.project.provider(() -> this.taskProvider);
+        assertThat(provider).get(GradleAssertFactories.TASK_PROVIDER).hasName("testTask");
+        assertThat(this.realized.get()).isFalse();
+    }
+
+    @Test
+    public void testHasName() {
+        assertThat(this.taskProvider).hasName("testTask");
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.taskProvider).hasName("foo"))
+                .withMessage("Expected task to have name 'foo', but it was 'testTask'");
+        assertThat(this.realized.get()).isFalse();
+    }
+
+    @Test
+    public void testHasType() {
+        assertThat(this.taskProvider).hasType(TestTask.class).hasType(DefaultTask.class).hasType(Task.class);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.taskProvider).hasType(String.class))
+                .withMessage("Expected task 'testTask' to be an instance of 'java.lang.String' but is "
+                                     + "'org.cthing.assertj.gradle.GradleTaskProviderAssertTest$TestTask'");
+        assertThat(this.realized.get()).isFalse();
+    }
+
+    @Test
+    public void testHasTaskSatisfying() {
+        assertThat(this.taskProvider).hasTaskSatisfying(task -> assertThat(task).hasDescription("Hello world"));
+        assertThat(this.realized.get()).isTrue();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.taskProvider)
+                        .hasTaskSatisfying(task -> assertThat(task).hasDescription("foo")))
+                .withMessage("Expected task 'testTask' to have description 'foo', but it was 'Hello world'");
+    }
+
+    @Test
+    public void testGetTask() {
+        assertThat(this.taskProvider).getTask().hasName("testTask");
+        assertThat(this.realized.get()).isTrue();
+    }
+
+    @Test
+    public void testProjectTaskProvider() {
+        assertThat(this.project).getTaskProvider("testTask").hasName("testTask").hasType(TestTask.class);
+        assertThat(this.project).hasTask("testTask").hasTaskWithType("testTask", TestTask.class);
+        assertThat(this.realized.get()).isFalse();
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.project).getTaskProvider("foo"))
+                .withMessage("Project 'test' does not contain the task 'foo'");
+    }
+
+    @Test
+    public void testProviderChain() {
+        assertThat(this.taskProvider).map(Task::getDescription).contains("Hello world");
+        assertThat(this.taskProvider).profiled()
+                                     .map(Task::getName)
+                                     .contains("testTask")
+                                     .chainDepthAtMost(1);
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(this.taskProvider).evaluatesAtMostOnce())
+                .withMessageStartingWith("Expected a provider created by CountingProviders");
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.plugins.BasePluginExtension;
+import org.gradle.api.tasks.bundling.Jar;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+@ExtendWith(PooledProjectExtension.class)
+public class PooledProjectExtensionTest {
+
+    @Test
+    public void testDefaultProject(final Project project) {
+        assertThat(project.getName()).isEqualTo("test");
+        assertThat(project).doesNotHavePlugin("java");
+    }
+
+    @Test
+    public void testPlugins(@PooledProject(plugins = { "java", "checkstyle" }) final Project project) {
+        assertThat(project).hasPlugin("java").hasPlugin("checkstyle").hasTask("checkstyleMain");
+    }
+
+    @Test
+    public void testName(@PooledProject(name = "pooled") final Project project) {
+        assertThat(project.getName()).isEqualTo("pooled");
+    }
+
+    @Test
+    public void testMultipleProjects(@PooledProject(plugins = "java") final Project project1,
+                                     @PooledProject(plugins = "java") final Project project2) {
+        assertThat(project1).isNotSameAs(project2);
+        assertThat(project1).hasPlugin("java");
+        assertThat(project2).hasPlugin("java");
+    }
+
+    @Test
+    public void testReusable(@PooledProject(plugins = "java", reusable = true) final Project project)
+            throws NoSuchMethodException {
+        assertThat(project).hasPlugin("java");
+        assertThat(PooledProject.class.getMethod("reusable").getDefaultValue()).isEqualTo(Boolean.FALSE);
+    }
+
+    @Test
+    public void testSubprojects(@PooledProject(subprojects = { "app", "lib" }) final Project project) {
+        assertThat(project.getChildProjects()).containsOnlyKeys("app", "lib");
+    }
+
+    @Test
+    public void testTemplate(@TempDir final Path templateDir) throws IOException {
+        Files.writeString(templateDir.resolve("build.gradle.kts"), "plugins { java }", StandardCharsets.UTF_8);
+        final ProjectPool.Layout layout = new ProjectPool.Layout(templateDir.toString(), List.of("app"));
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("base"), "templated", layout);
+
+        final Project project1 = ProjectPool.getInstance().acquire(key);
+        assertThat(project1).hasProjectFile("build.gradle.kts").hasPlugin("base");
+        assertThat(project1.getChildProjects()).containsOnlyKeys("app");
+        assertThat(ProjectPool.getInstance().release(project1)).isTrue();
+
+        final Project project2 = ProjectPool.getInstance().acquire(new ProjectPool.Key(List.of("base"), "templated"));
+        assertThat(project2).isNotSameAs(project1);
+        assertThat(project2.file("build.gradle.kts")).doesNotExist();
+        assertThat(ProjectPool.getInstance().acquire(key)).isSameAs(project1);
+    }
+
+    @Test
+    public void testModifiedProjectNotReused() {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("base"), "test");
+        final Project project1 = ProjectPool.getInstance().acquire(key);
+        project1.getTasks().register("extra");
+        assertThat(ProjectPool.getInstance().release(project1)).isFalse();
+        final Project project2 = ProjectPool.getInstance().acquire(key);
+        assertThat(project2).isNotSameAs(project1).doesNotHaveTask("extra");
+    }
+
+    @Test
+    public void testReleasedProjectReused() {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("base"), "reused");
+        final Project project1 = ProjectPool.getInstance().acquire(key);
+        assertThat(project1).hasTask("assemble");
+        assertThat(ProjectPool.getInstance().release(project1)).isTrue();
+        final Project project2 = ProjectPool.getInstance().acquire(key);
+        assertThat(project2).isSameAs(project1);
+    }
+
+    @Test
+    public void testPropertyChangeDetected() {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("java"), "property");
+        final Project project1 = ProjectPool.getInstance().acquire(key);
+        ProjectPool.getInstance().release(project1);
+        assertThat(ProjectPool.getInstance().acquire(key)).isSameAs(project1);
+        project1.getExtensions()
+                .getByType(BasePluginExtension.class)
+                .getArchivesName()
+                .set("changed");
+        assertThat(ProjectPool.getInstance().release(project1)).isFalse();
+        assertThat(ProjectPool.getInstance().acquire(key)).isNotSameAs(project1);
+    }
+
+    @Test
+    public void testDependencyChangeDetected() {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("java"), "dependency");
+        final Project project = ProjectPool.getInstance().acquire(key);
+        project.getDependencies().add("implementation", "org.example:sample:1.0");
+        assertThat(ProjectPool.getInstance().release(project)).isFalse();
+    }
+
+    @Test
+    public void testOtherChangesDetected() throws IOException {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("java"), "other");
+        final ProjectPool pool = ProjectPool.getInstance();
+
+        final Project project1 = pool.acquire(key);
+        project1.getExtensions().getExtraProperties().set("extra", "value");
+        assertThat(pool.release(project1)).isFalse();
+
+        final Project project2 = pool.acquire(key);
+        project2.getRepositories().mavenCentral();
+        assertThat(pool.release(project2)).isFalse();
+
+        final Project project3 = pool.acquire(key);
+        project3.getTasks().getByName("jar");
+        assertThat(pool.release(project3)).isFalse();
+
+        final Project project4 = pool.acquire(key);
+        project4.setVersion("1.0");
+        assertThat(pool.release(project4)).isFalse();
+
+        final Project project5 = pool.acquire(key);
+        Files.writeString(project5.file("output.txt").toPath(), "output", StandardCharsets.UTF_8);
+        assertThat(pool.release(project5)).isFalse();
+
+        final Project project6 = pool.acquire(key);
+        assertThat(project6).evaluated();
+        assertThat(pool.release(project6)).isFalse();
+    }
+
+    @Test
+    public void testTaskSettingChangeDetected() {
+        final Project project = ProjectBuilder.builder().build();
+        project.getPluginManager().apply("java");
+        final Task jar = project.getTasks().getByName("jar");
+        final List<Task> realizedTasks = List.of(jar);
+
+        final PooledProjectState state = PooledProjectState.capture(project, realizedTasks);
+        assertThat(state.isUnchanged(PooledProjectState.capture(project, realizedTasks))).isTrue();
+
+        jar.setDescription("changed");
+        assertThat(state.isUnchanged(PooledProjectState.capture(project, realizedTasks))).isFalse();
+
+        final PooledProjectState described = PooledProjectState.capture(project, realizedTasks);
+        ((Jar)jar).getArchiveVersion().set("2.0");
+        assertThat(described.isUnchanged(PooledProjectState.capture(project, realizedTasks))).isFalse();
+    }
+
+    @Test
+    public void testSnapshotEquality(@PooledProject(plugins = "java") final Project project) {
+        final GradleProjectSnapshot snapshot1 = GradleProjectSnapshot.capture(project);
+        final GradleProjectSnapshot snapshot2 = GradleProjectSnapshot.capture(project);
+        assertThat(snapshot1).isEqualTo(snapshot2).hasSameHashCodeAs(snapshot2);
+
+        project.getTasks().register("extra");
+        assertThat(GradleProjectSnapshot.capture(project)).isNotEqualTo(snapshot1);
+    }
+
+    @Test
+    public void testPooledProjectsEvaluateAndResolve(@PooledProject(plugins = "java") final Project project1,
+                                                     @PooledProject(plugins = "java") final Project project2) {
+        assertThat(project2).isNotSameAs(project1);
+        for (final Project project : List.of(project1, project2)) {
+            assertThat(project).evaluated();
+            assertThat(project.getConfigurations().getByName("runtimeClasspath").getFiles()).isEmpty();
+        }
+    }
+
+    @Test
+    public void testReusedProjectEvaluatesAndResolves() {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("java"), "resolved");
+        final Project project1 = ProjectPool.getInstance().acquire(key);
+        ProjectPool.getInstance().release(project1);
+        final Project project2 = ProjectPool.getInstance().acquire(key);
+        final Project project3 = ProjectPool.getInstance().acquire(key);
+        assertThat(project2).isSameAs(project1);
+        assertThat(project3).isNotSameAs(project1);
+        for (final Project project : List.of(project2, project3)) {
+            assertThat(project).evaluated();
+            assertThat(project.getConfigurations().getByName("runtimeClasspath").getFiles()).isEmpty();
+        }
+    }
+
+    @Test
+    public void testReleasedProjectNotReusedByOtherThread() throws Exception {
+        final ProjectPool.Key key = new ProjectPool.Key(List.of("base"), "threaded");
+        final Project project1 = ProjectPool.getInstance().acquire(key);
+        ProjectPool.getInstance().release(project1);
+
+        final AtomicReference<Project> project2 = new AtomicReference<>();
+        final Thread thread = new Thread(() -> project2.set(ProjectPool.getInstance().acquire(key)));
+        thread.start();
+        thread.join();
+
+        assertThat(project2.get()).isNotNull().isNotSameAs(project1);
+        assertThat(ProjectPool.getInstance().acquire(key)).isSameAs(project1);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.gradle.api.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cthing.assertj.gradle.GradleAssertions.assertThat;
+
+
+public class ProjectTemplateTest {
+
+    @TempDir
+    private Path sourceDir;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Files.writeString(this.sourceDir.resolve("build.gradle.kts"), "plugins { java }", StandardCharsets.UTF_8);
+        final Path javaDir = Files.createDirectories(this.sourceDir.resolve("src/main/java"));
+        Files.writeString(javaDir.resolve("Sample.java"), "class Sample {}", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testNewProject() {
+        final ProjectTemplate template = ProjectTemplate.of(this.sourceDir);
+        assertThat(ProjectTemplate.of(this.sourceDir)).isSameAs(template);
+
+        final Project project = template.newProject();
+        assertThat(project).hasProjectFile("build.gradle.kts")
+                           .hasProjectDirectory("src/main/java")
+                           .hasProjectFile("src/main/java/Sample.java");
+        assertThat(project.getName()).isEqualTo("test");
+        assertThat(project.getProjectDir().toPath()).isNotEqualTo(this.sourceDir);
+
+        final Project namedProject = template.newProject("sample");
+        assertThat(namedProject.getName()).isEqualTo("sample");
+        assertThat(namedProject.getProjectDir()).isNotEqualTo(project.getProjectDir());
+    }
+
+    @Test
+    public void testProjectsAreIndependent() throws IOException {
+        final ProjectTemplate template = ProjectTemplate.of(this.sourceDir);
+        final Project project1 = template.newProject();
+        final Project project2 = template.newProject();
+
+        final Path buildDir = project1.getLayout().getBuildDirectory().get().getAsFile().toPath();
+        Files.createDirectories(buildDir);
+        Files.writeString(buildDir.resolve("output.txt"), "output", StandardCharsets.UTF_8);
+        assertThat(project1).hasBuildFile("output.txt");
+
+        final Path sample = project1.file("src/main/java/Sample.java").toPath();
+        Files.delete(sample);
+        Files.writeString(sample, "class Changed {}", StandardCharsets.UTF_8);
+
+        assertThat(project2.file("build/output.txt")).doesNotExist();
+        assertThat(project2.file("src/main/java/Sample.java")).hasContent("class Sample {}");
+        assertThat(template.newProject().file("src/main/java/Sample.java")).hasContent("class Sample {}");
+    }
+
+    @Test
+    public void testTemplateCapturedOnce() throws IOException {
+        final ProjectTemplate template = ProjectTemplate.of(this.sourceDir);
+        Files.writeString(this.sourceDir.resolve("settings.gradle.kts"), "", StandardCharsets.UTF_8);
+        assertThat(template.newProject().file("settings.gradle.kts")).doesNotExist();
+    }
+
+    @Test
+    public void testInPlaceChangeDoesNotAffectTemplate() throws IOException {
+        final ProjectTemplate template = ProjectTemplate.of(this.sourceDir);
+        final Path sample = template.newProject().file("src/main/java/Sample.java").toPath();
+
+        // A privileged user can write to a read only file, so the template must not be linked in that case
+        if (Files.isWritable(sample)) {
+            Files.writeString(sample, "class Changed {}", StandardCharsets.UTF_8);
+        }
+
+        assertThat(template.newProject().file("src/main/java/Sample.java")).hasContent("class Sample {}");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.cthing.assertj.gradle;
+
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+public class TaskRealizationRecorderTest {
+
+    private Project project;
+
+    @BeforeEach
+    public void setup() {
+        this.project = ProjectBuilder.builder().build();
+    }
+
+    @Test
+    public void testInstall() {
+        final TaskRealizationRecorder recorder = TaskRealizationRecorder.install(this.project);
+        assertThat(TaskRealizationRecorder.install(this.project)).isSameAs(recorder);
+        assertThat(TaskRealizationRecorder.find(this.project)).isSameAs(recorder);
+        assertThat(TaskRealizationRecorder.find(ProjectBuilder.builder().build())).isNull();
+    }
+
+    @Test
+    public void testRealizedTasks() {
+        this.project.getTasks().register("task1");
+        this.project.getTasks().getByName("task1");
+
+        final TaskRealizationRecorder recorder = TaskRealizationRecorder.install(this.project);
+        this.project.getTasks().register("task2");
+        this.project.getTasks().register("task3");
+        this.project.getTasks().register("task4");
+        assertThat(recorder.getRealizedTaskNames()).isEmpty();
+
+        this.project.getTasks().getByName("task4");
+        this.project.getTasks().named("task2").get();
+        assertThat(recorder.getRealizedTaskNames()).containsExactly("task2", "task4");
+
+        final StackTraceElement site = recorder.getRealizationSite("task2");
+        assertThat(site).isNotNull();
+        assertThat(site.getClassName()).isEqualTo(TaskRealizationRecorderTest.class.getName());
+        assertThat(site.getMethodName()).isEqualTo("testRealizedTasks");
+        assertThat(recorder.getRealizationSite("task1")).isNull();
+        assertThat(recorder.getRealizationSite("task3")).isNull();
+    }
+}